@@ -25,8 +25,10 @@ package net.kyori.adventure.platform;
 
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.UUID;
 
 /**
@@ -123,6 +125,21 @@ public interface AudienceProvider extends AutoCloseable {
    */
   @NotNull Audience server(final @NotNull String serverName);
 
+  /**
+   * Shows an action bar to an audience for a duration.
+   *
+   * <p>Clients hide an action bar after a few seconds, so providers that support it send the
+   * action bar again until the duration has passed. Otherwise, it is only sent once.</p>
+   *
+   * @param audience an audience from this provider
+   * @param message an action bar
+   * @param duration how long to show the action bar
+   * @since 4.0.0
+   */
+  default void showActionBar(final @NotNull Audience audience, final @NotNull Component message, final @NotNull Duration duration) {
+    audience.sendActionBar(message);
+  }
+
   /**
    * Closes the provider and forces audiences to be empty.
    *
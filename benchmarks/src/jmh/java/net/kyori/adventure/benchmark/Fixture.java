@@ -0,0 +1,122 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.benchmark;
+
+import java.util.UUID;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.nbt.api.BinaryTagHolder;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Components shared by benchmarks.
+ *
+ * <p>Use the name of a fixture as a JMH {@code @Param} value.</p>
+ */
+public enum Fixture {
+  /**
+   * A single text component with a color.
+   */
+  FLAT {
+    @Override
+    protected @NotNull Component create() {
+      return Component.text("Hello, world! Welcome to the server.", NamedTextColor.GREEN);
+    }
+  },
+  /**
+   * A text component nested {@value #DEPTH} levels deep, with a style at every level.
+   */
+  DEEP {
+    @Override
+    protected @NotNull Component create() {
+      Component component = Component.text("leaf", NamedTextColor.WHITE);
+      for(int i = DEPTH - 1; i >= 0; i--) {
+        component = Component.text()
+          .content("level " + i + " ")
+          .color(TextColor.color(0x100000 * (i % 16) + 0x00aa00))
+          .decoration(TextDecoration.values()[i % TextDecoration.values().length], true)
+          .append(component)
+          .build();
+      }
+      return component;
+    }
+  },
+  /**
+   * Siblings that each have hover and click events, including item and entity hovers.
+   */
+  HOVER_CLICK {
+    @Override
+    protected @NotNull Component create() {
+      final TextComponent.Builder builder = Component.text();
+      for(int i = 0; i < 8; i++) {
+        builder.append(Component.text()
+          .content("[link " + i + "] ")
+          .color(NamedTextColor.AQUA)
+          .decoration(TextDecoration.UNDERLINED, true)
+          .hoverEvent(HoverEvent.showText(Component.text("Click to open page " + i, NamedTextColor.GRAY)))
+          .clickEvent(i % 2 == 0 ? ClickEvent.openUrl("https://example.com/page/" + i) : ClickEvent.runCommand("/page " + i))
+          .insertion("page " + i));
+      }
+      builder.append(Component.text("[item] ", NamedTextColor.LIGHT_PURPLE)
+        .hoverEvent(HoverEvent.showItem(Key.key("minecraft", "diamond_sword"), 1, BinaryTagHolder.of("{display:{Name:'{\"text\":\"Sword\"}'},Enchantments:[{id:\"minecraft:sharpness\",lvl:5s}]}"))));
+      builder.append(Component.text("[entity]", NamedTextColor.YELLOW)
+        .hoverEvent(HoverEvent.showEntity(Key.key("minecraft", "zombie"), new UUID(0x1234L, 0x5678L), Component.text("Zombie"))));
+      return builder.build();
+    }
+  },
+  /**
+   * A translatable component with styled, nested translatable arguments.
+   */
+  TRANSLATABLE {
+    @Override
+    protected @NotNull Component create() {
+      final Component player = Component.text("Player", NamedTextColor.GOLD)
+        .hoverEvent(HoverEvent.showText(Component.translatable("gui.entity_tooltip.type", Component.translatable("entity.minecraft.player"))))
+        .clickEvent(ClickEvent.suggestCommand("/msg Player "));
+      return Component.translatable("chat.type.advancement.task", player, Component.translatable("advancements.story.mine_diamond.title", NamedTextColor.GREEN)
+        .hoverEvent(HoverEvent.showText(Component.translatable("advancements.story.mine_diamond.description"))));
+    }
+  };
+
+  private static final int DEPTH = 32; // A constant, since enum constants are created before other static fields
+
+  private final Component component = this.create();
+
+  protected abstract @NotNull Component create();
+
+  /**
+   * Gets the component for this fixture.
+   *
+   * @return a component
+   */
+  public @NotNull Component component() {
+    return this.component;
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the ways reflected members are called by the CraftBukkit facets.
+ *
+ * <p>The facets need a running server, so these use stand-ins for a packet constructor,
+ * a connection's send method, and the path from a player to their connection. Handles are
+ * stored in fields, like the facets' static handles would be after class initialization.</p>
+ *
+ * <p>The {@code lambdaMetafactory} and {@code wrapped} benchmarks call the functions created by
+ * {@link MinecraftReflection#findFunction(MethodHandle)} and
+ * {@link MinecraftReflection#findBiConsumer(MethodHandle)}, for direct handles and for adapted
+ * handles that fall back to wrapping the handle.</p>
+ *
+ * <p>The {@code connection} benchmarks compare resolving a player's connection through
+ * {@code getHandle} and the connection field on every packet, with the same handles fused
+ * into one, and with the cache of connections by player id that the facets use.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MethodHandleBenchmark {
+  static {
+    StubServer.install(); // MinecraftReflection reads the server while initializing
+  }
+
+  private MethodHandle constructor;
+  private MethodHandle erasedConstructor;
+  private Function<Object, Object> constructorFunction;
+  private MethodHandle send;
+  private MethodHandle erasedSend;
+  private BiConsumer<Object, Object> sendConsumer;
+  private Function<Object, Object> wrappedConstructorFunction;
+  private BiConsumer<Object, Object> wrappedSendConsumer;
+  private Connection connection;
+  private String message;
+  private MethodHandle getHandle;
+  private MethodHandle getConnection;
+  private MethodHandle erasedGetPlayerConnection;
+  private Map<UUID, CachedConnection> connections;
+  private Player player;
+
+  @Setup
+  public void setup() throws Throwable {
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    this.constructor = lookup.findConstructor(Packet.class, MethodType.methodType(void.class, String.class));
+    this.erasedConstructor = this.constructor.asType(MethodType.methodType(Object.class, Object.class));
+    this.constructorFunction = MinecraftReflection.findFunction(this.constructor);
+    this.wrappedConstructorFunction = MinecraftReflection.findFunction(this.erasedConstructor);
+    this.send = lookup.findVirtual(Connection.class, "sendPacket", MethodType.methodType(void.class, Packet.class));
+    this.erasedSend = this.send.asType(MethodType.methodType(void.class, Object.class, Object.class));
+    this.sendConsumer = MinecraftReflection.findBiConsumer(this.send);
+    this.wrappedSendConsumer = MinecraftReflection.findBiConsumer(this.erasedSend);
+    this.connection = new Connection();
+    this.message = "{\"text\":\"Hello, world!\"}";
+    this.getHandle = lookup.findVirtual(Player.class, "getHandle", MethodType.methodType(Handle.class));
+    this.getConnection = lookup.findGetter(Handle.class, "playerConnection", Connection.class);
+    this.erasedGetPlayerConnection = MethodHandles.filterReturnValue(this.getHandle, this.getConnection)
+      .asType(MethodType.methodType(Object.class, Object.class));
+    this.player = new Player(new Handle(this.connection));
+    this.connections = new ConcurrentHashMap<>();
+    // Other players, so lookups do not hit a map with a single entry
+    for(int i = 0; i < 100; i++) {
+      final Connection other = new Connection();
+      final Player player = new Player(new Handle(other));
+      this.connections.put(player.id, new CachedConnection(player, other));
+    }
+    this.connections.put(this.player.id, new CachedConnection(this.player, this.connection));
+  }
+
+  @Benchmark
+  public int direct() {
+    this.connection.sendPacket(new Packet(this.message));
+    return this.connection.sent;
+  }
+
+  @Benchmark
+  public int invoke() throws Throwable {
+    final Object connection = this.connection;
+    this.send.invoke(connection, this.constructor.invoke(this.message));
+    return this.connection.sent;
+  }
+
+  @Benchmark
+  public int invokeExact() throws Throwable {
+    final Object connection = this.connection;
+    this.erasedSend.invokeExact(connection, this.erasedConstructor.invokeExact((Object) this.message));
+    return this.connection.sent;
+  }
+
+  @Benchmark
+  public int lambdaMetafactory() {
+    this.sendConsumer.accept(this.connection, this.constructorFunction.apply(this.message));
+    return this.connection.sent;
+  }
+
+  @Benchmark
+  public int wrapped() {
+    this.wrappedSendConsumer.accept(this.connection, this.wrappedConstructorFunction.apply(this.message));
+    return this.connection.sent;
+  }
+
+  @Benchmark
+  public Object connectionUncached() throws Throwable {
+    final Object player = this.player;
+    return this.getConnection.invoke(this.getHandle.invoke(player));
+  }
+
+  @Benchmark
+  public Object connectionFused() throws Throwable {
+    return (Object) this.erasedGetPlayerConnection.invokeExact((Object) this.player);
+  }
+
+  @Benchmark
+  public Object connectionCached() throws Throwable {
+    // Matches CraftBukkitFacet#findConnection
+    final Player player = this.player;
+    final CachedConnection cached = this.connections.get(player.getUniqueId());
+    if(cached != null) {
+      final Object connection = cached.get(player);
+      if(connection != null) return connection;
+    }
+    return (Object) this.erasedGetPlayerConnection.invokeExact((Object) player);
+  }
+
+  /**
+   * A stand-in for a packet.
+   */
+  public static final class Packet {
+    final String message;
+
+    public Packet(final String message) {
+      this.message = message;
+    }
+  }
+
+  /**
+   * A stand-in for a player connection.
+   */
+  public static final class Connection {
+    int sent;
+
+    public void sendPacket(final Packet packet) {
+      this.sent += packet.message.length();
+    }
+  }
+
+  /**
+   * A stand-in for a server player, which holds the connection.
+   */
+  public static final class Handle {
+    public final Connection playerConnection;
+
+    Handle(final Connection playerConnection) {
+      this.playerConnection = playerConnection;
+    }
+  }
+
+  /**
+   * A stand-in for a Bukkit player.
+   */
+  public static final class Player {
+    final UUID id = UUID.randomUUID();
+    private final Handle handle;
+
+    Player(final Handle handle) {
+      this.handle = handle;
+    }
+
+    public UUID getUniqueId() {
+      return this.id;
+    }
+
+    public Handle getHandle() {
+      return this.handle;
+    }
+  }
+
+  /**
+   * A copy of the facets' cached connection, which needs a CraftBukkit player to be used directly.
+   */
+  static final class CachedConnection {
+    private final WeakReference<Player> player;
+    private final WeakReference<Object> connection;
+
+    CachedConnection(final Player player, final Object connection) {
+      this.player = new WeakReference<>(player);
+      this.connection = new WeakReference<>(connection);
+    }
+
+    Object get(final Player player) {
+      return this.player.get() == player ? this.connection.get() : null;
+    }
+  }
+}
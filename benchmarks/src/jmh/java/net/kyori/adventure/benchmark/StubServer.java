@@ -0,0 +1,55 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.logging.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+
+/**
+ * A stand-in for a Bukkit server, for benchmarks of code that reads the server while initializing.
+ *
+ * <p>Only the server's class name is read, which tells the serializer that this is not CraftBukkit.</p>
+ */
+public final class StubServer {
+  private StubServer() {
+  }
+
+  /**
+   * Sets the Bukkit server to a stand-in, unless a server was already set.
+   */
+  public static synchronized void install() {
+    if(Bukkit.getServer() != null) return;
+
+    final Logger logger = Logger.getLogger(StubServer.class.getSimpleName());
+    Bukkit.setServer((Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[] {Server.class}, (proxy, method, args) -> {
+      if(method.getReturnType() == Logger.class) return logger;
+      if(method.getReturnType() == String.class) return "benchmark";
+      if(method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+      if(method.getName().equals("equals")) return proxy == args[0];
+      throw new UnsupportedOperationException(method.getName());
+    }));
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A provider of in-memory viewers, with facets that serialize messages to json.
+ */
+final class BenchmarkAudienceProvider extends FacetAudienceProvider<BenchmarkViewer, FacetAudience<BenchmarkViewer>> {
+  private static final GsonComponentSerializer MODERN = GsonComponentSerializer.gson();
+  private static final GsonComponentSerializer LEGACY = GsonComponentSerializer.colorDownsamplingGson();
+
+  @Override
+  protected @Nullable UUID hasId(final @NotNull BenchmarkViewer viewer) {
+    return viewer.id;
+  }
+
+  @Override
+  protected boolean isConsole(final @NotNull BenchmarkViewer viewer) {
+    return false;
+  }
+
+  @Override
+  protected boolean hasPermission(final @NotNull BenchmarkViewer viewer, final @NotNull String permission) {
+    return true;
+  }
+
+  @Override
+  protected boolean isInWorld(final @NotNull BenchmarkViewer viewer, final @NotNull Key world) {
+    return true;
+  }
+
+  @Override
+  protected boolean isOnServer(final @NotNull BenchmarkViewer viewer, final @NotNull String server) {
+    return true;
+  }
+
+  @Override
+  protected @NotNull FacetAudience<BenchmarkViewer> createAudience(final @NotNull Collection<BenchmarkViewer> viewers) {
+    final BenchmarkViewer first = viewers.isEmpty() ? null : viewers.iterator().next();
+    return new FacetAudience<>(
+      viewers,
+      first == null ? null : first.locale,
+      Collections.singletonList(new Chat()),
+      Collections.singletonList(new ActionBar()),
+      null,
+      null,
+      null,
+      null,
+      null,
+      null
+    );
+  }
+
+  static class Message extends FacetBase<BenchmarkViewer> implements Facet.Message<BenchmarkViewer, String> {
+    Message() {
+      super(BenchmarkViewer.class);
+    }
+
+    @Override
+    public @NotNull String createMessage(final @NotNull BenchmarkViewer viewer, final @NotNull Component message) {
+      return (viewer.legacy ? LEGACY : MODERN).serialize(message);
+    }
+
+    @Override
+    public int protocolBucket(final @NotNull BenchmarkViewer viewer) {
+      return viewer.legacy ? 1 : 0;
+    }
+  }
+
+  static class Chat extends Message implements Facet.Chat<BenchmarkViewer, String> {
+    @Override
+    public void sendMessage(final @NotNull BenchmarkViewer viewer, final @NotNull Identity source, final @NotNull String message, final net.kyori.adventure.audience.@NotNull MessageType type) {
+      viewer.receive(message);
+    }
+  }
+
+  static class ActionBar extends Message implements Facet.ActionBar<BenchmarkViewer, String> {
+    @Override
+    public void sendMessage(final @NotNull BenchmarkViewer viewer, final @NotNull String message) {
+      viewer.receive(message);
+    }
+  }
+}
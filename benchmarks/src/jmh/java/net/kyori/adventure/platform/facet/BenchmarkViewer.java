@@ -0,0 +1,50 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import java.util.Locale;
+import java.util.UUID;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An in-memory viewer, which counts the messages it receives.
+ */
+final class BenchmarkViewer {
+  final UUID id;
+  final boolean legacy;
+  final Locale locale;
+  long received;
+  long messages;
+
+  BenchmarkViewer(final int index) {
+    this.id = new UUID(0L, index);
+    this.legacy = index % 4 == 0; // A quarter of viewers are on an older protocol
+    this.locale = index % 3 == 0 ? Locale.GERMANY : Locale.US;
+  }
+
+  void receive(final @NotNull Object message) {
+    this.received += message.hashCode() & 1;
+    this.messages++;
+  }
+}
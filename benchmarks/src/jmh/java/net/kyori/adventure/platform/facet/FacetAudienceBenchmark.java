@@ -0,0 +1,102 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.audience.MessageType;
+import net.kyori.adventure.benchmark.Fixture;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks for sending to every audience of a {@link FacetAudienceProvider}.
+ *
+ * <p>Viewers store what they receive, so sends are not eliminated as dead code.
+ * Every viewer is checked to have received messages once the benchmark ends.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FacetAudienceBenchmark {
+  @Param({"1", "64", "1024"})
+  private int viewers;
+
+  @Param({"FLAT", "DEEP", "HOVER_CLICK", "TRANSLATABLE"})
+  private Fixture fixture;
+
+  private BenchmarkAudienceProvider provider;
+  private List<BenchmarkViewer> viewerList;
+  private Component component;
+
+  @Setup
+  public void setup() {
+    this.provider = new BenchmarkAudienceProvider();
+    this.viewerList = new ArrayList<>(this.viewers);
+    for(int i = 0; i < this.viewers; i++) {
+      final BenchmarkViewer viewer = new BenchmarkViewer(i);
+      this.viewerList.add(viewer);
+      this.provider.addViewer(viewer);
+    }
+    this.component = this.fixture.component();
+  }
+
+  @TearDown
+  public void tearDown() {
+    // Checked once, so the measured sends do not include a loop over every viewer
+    for(final BenchmarkViewer viewer : this.viewerList) {
+      if(viewer.messages == 0) {
+        throw new IllegalStateException("Viewer " + viewer.id + " received no messages");
+      }
+    }
+    this.provider.close();
+  }
+
+  @Benchmark
+  public void broadcastMessage() {
+    this.provider.all().sendMessage(Identity.nil(), this.component, MessageType.SYSTEM);
+  }
+
+  @Benchmark
+  public void broadcastActionBar() {
+    this.provider.players().sendActionBar(this.component);
+  }
+
+  @Benchmark
+  public void sendToEachAudience() {
+    for(final BenchmarkViewer viewer : this.viewerList) {
+      this.provider.player(viewer.id).sendMessage(Identity.nil(), this.component, MessageType.SYSTEM);
+    }
+  }
+}
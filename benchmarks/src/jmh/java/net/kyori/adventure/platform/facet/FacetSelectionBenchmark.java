@@ -0,0 +1,83 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link Facet#of(Supplier[])} and {@link Facet#of(Collection, Object)}.
+ *
+ * <p>Only the last facet is applicable to the viewer, which is the worst case for selection.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FacetSelectionBenchmark {
+  @Param({"1", "4", "16"})
+  private int facets;
+
+  private Supplier<Facet<Object>>[] suppliers;
+  private Collection<Facet<Object>> supported;
+  private BenchmarkViewer viewer;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    this.suppliers = new Supplier[this.facets];
+    for(int i = 0; i < this.facets; i++) {
+      final Class<?> viewerClass = i == this.facets - 1 ? BenchmarkViewer.class : String.class;
+      this.suppliers[i] = () -> new Stub(viewerClass);
+    }
+    this.supported = Facet.of(this.suppliers);
+    this.viewer = new BenchmarkViewer(0);
+  }
+
+  @Benchmark
+  public Collection<Facet<Object>> createFacets() {
+    return Facet.of(this.suppliers);
+  }
+
+  @Benchmark
+  public Facet<Object> selectFacet() {
+    return Facet.of(this.supported, this.viewer);
+  }
+
+  static final class Stub extends FacetBase<Object> {
+    @SuppressWarnings("unchecked")
+    Stub(final @NotNull Class<?> viewerClass) {
+      super((Class<Object>) viewerClass);
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link FacetViewerSet}, compared to a {@link CopyOnWriteArraySet}.
+ *
+ * <p>Each operation of the churn benchmarks removes the oldest member and adds a new one,
+ * as when players move between teams or arenas.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FacetViewerSetBenchmark {
+  @Param({"10", "100", "1000"})
+  private int members;
+
+  @Param({"COPY_ON_WRITE", "FACET"})
+  private Implementation implementation;
+
+  private BenchmarkViewer[] viewers;
+  private Set<BenchmarkViewer> set;
+  private int next;
+  private int probe;
+
+  @Setup
+  public void setup() {
+    // Twice as many viewers as members, so the oldest member can always be replaced
+    this.viewers = new BenchmarkViewer[this.members * 2];
+    for(int i = 0; i < this.viewers.length; i++) {
+      this.viewers[i] = new BenchmarkViewer(i);
+    }
+    this.set = this.implementation.create();
+    for(int i = 0; i < this.members; i++) {
+      this.set.add(this.viewers[i]);
+    }
+    this.next = this.members;
+  }
+
+  @Benchmark
+  public boolean churn() {
+    return this.replace();
+  }
+
+  @Benchmark
+  public long churnAndIterate() {
+    this.replace();
+    long received = 0;
+    for(final BenchmarkViewer viewer : this.set) {
+      received += viewer.received;
+    }
+    return received;
+  }
+
+  @Benchmark
+  public boolean contains() {
+    // Half of the viewers probed are members
+    final BenchmarkViewer viewer = this.viewers[this.probe];
+    this.probe = (this.probe + 1) % this.viewers.length;
+    return this.set.contains(viewer);
+  }
+
+  private boolean replace() {
+    final int length = this.viewers.length;
+    final BenchmarkViewer oldest = this.viewers[(this.next - this.members + length) % length];
+    final BenchmarkViewer newest = this.viewers[this.next];
+    this.next = (this.next + 1) % length;
+    return this.set.remove(oldest) & this.set.add(newest);
+  }
+
+  public enum Implementation {
+    COPY_ON_WRITE {
+      @Override
+      Set<BenchmarkViewer> create() {
+        return new CopyOnWriteArraySet<>();
+      }
+    },
+    FACET {
+      @Override
+      Set<BenchmarkViewer> create() {
+        return new FacetViewerSet<>();
+      }
+    };
+
+    abstract Set<BenchmarkViewer> create();
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.bungeecord;
+
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.benchmark.Fixture;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.chat.ComponentSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link BungeeComponentSerializer}.
+ *
+ * <p>Serializing only wraps the component, so the json and legacy text benchmarks
+ * measure the work done when BungeeCord writes the wrapped component. The convert and parse
+ * benchmarks compare the direct tree conversion with the JSON round trip it replaces.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BungeeComponentSerializerBenchmark {
+  @Param({"FLAT", "DEEP", "HOVER_CLICK", "TRANSLATABLE"})
+  private Fixture fixture;
+
+  @Param({"false", "true"})
+  private boolean legacy;
+
+  private BungeeComponentSerializer serializer;
+  private BaseComponentConverter converter;
+  private GsonComponentSerializer gson;
+  private Component component;
+  private BaseComponent[] components;
+
+  @Setup
+  public void setup() {
+    this.serializer = this.legacy ? BungeeComponentSerializer.legacy() : BungeeComponentSerializer.get();
+    this.converter = new BaseComponentConverter(this.legacy, this.legacy);
+    this.gson = this.legacy ? GsonComponentSerializer.builder().downsampleColors().emitLegacyHoverEvent().build() : GsonComponentSerializer.gson();
+    this.component = this.fixture.component();
+    this.components = ComponentSerializer.parse(GsonComponentSerializer.gson().serialize(this.component));
+  }
+
+  @Benchmark
+  public BaseComponent[] serialize() {
+    return this.serializer.serialize(this.component);
+  }
+
+  @Benchmark
+  public String serializeToJson() {
+    return ComponentSerializer.toString(this.serializer.serialize(this.component));
+  }
+
+  @Benchmark
+  public String serializeToLegacyText() {
+    return BaseComponent.toLegacyText(this.serializer.serialize(this.component));
+  }
+
+  @Benchmark
+  public Component deserialize() {
+    return this.serializer.deserialize(this.components);
+  }
+
+  @Benchmark
+  public BaseComponent convertToBungee() {
+    return this.converter.serialize(this.component);
+  }
+
+  @Benchmark
+  public BaseComponent[] parseToBungee() {
+    return ComponentSerializer.parse(this.gson.serialize(this.component));
+  }
+
+  @Benchmark
+  public Component convertFromBungee() {
+    return this.converter.deserialize(this.components);
+  }
+
+  @Benchmark
+  public Component parseFromBungee() {
+    return this.gson.deserialize(ComponentSerializer.toString(this.components));
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.craftbukkit;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import net.kyori.adventure.benchmark.Fixture;
+import net.kyori.adventure.benchmark.StubServer;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static java.util.Objects.requireNonNull;
+import static net.kyori.adventure.text.serializer.craftbukkit.BukkitComponentSerializer.gson;
+
+/**
+ * Benchmarks for the two ways {@link MinecraftComponentSerializer} creates Minecraft components.
+ *
+ * <p>The serializer needs a server, so these use stand-ins for Minecraft's component classes and
+ * gson instance. The {@code json} benchmark is the serializer's json path, and the {@code direct}
+ * benchmark is {@link MinecraftComponentBuilder}, enabled with {@code -Dnet.kyori.adventure.directComponents=true}.
+ * Use {@code immutableStyles=false} to measure servers before 1.16, where styles are not cached.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MinecraftComponentSerializerBenchmark {
+  private static final Gson MINECRAFT_GSON = new GsonBuilder()
+    .registerTypeHierarchyAdapter(Chat.class, (JsonDeserializer<Chat>) (json, type, context) -> Chat.deserialize(json, context))
+    .registerTypeAdapter(ChatStyle.class, (JsonDeserializer<ChatStyle>) (json, type, context) -> ChatStyle.deserialize(json))
+    .create();
+
+  static {
+    StubServer.install();
+  }
+
+  @Param({"FLAT", "DEEP", "HOVER_CLICK", "TRANSLATABLE"})
+  private Fixture fixture;
+
+  @Param({"true", "false"})
+  private boolean immutableStyles;
+
+  private Component component;
+  private Function<Component, Object> fallback;
+  private MinecraftComponentBuilder builder;
+
+  @Setup
+  public void setup() {
+    this.component = this.fixture.component();
+    // Matches MinecraftComponentSerializer#serializeJson
+    this.fallback = component -> MINECRAFT_GSON.fromJson(gson().serializer().toJsonTree(component), Chat.class);
+    this.builder = requireNonNull(MinecraftComponentBuilder.create(Chat.class, ChatText.class, ChatTranslatable.class, ChatStyle.class, this.immutableStyles, MINECRAFT_GSON, this.fallback), "builder");
+    if(!this.fallback.apply(this.component).equals(this.builder.build(this.component))) {
+      throw new IllegalStateException("Built " + this.fixture + " differently");
+    }
+  }
+
+  @Benchmark
+  public Object json() {
+    return this.fallback.apply(this.component);
+  }
+
+  @Benchmark
+  public Object direct() {
+    return this.builder.build(this.component);
+  }
+
+  /**
+   * A stand-in for {@code IChatBaseComponent}.
+   */
+  public abstract static class Chat {
+    final List<Chat> siblings = new ArrayList<>();
+    ChatStyle style = ChatStyle.EMPTY;
+
+    public Chat addSibling(final Chat sibling) {
+      this.siblings.add(sibling);
+      return this;
+    }
+
+    public Chat setChatModifier(final ChatStyle style) {
+      this.style = style;
+      return this;
+    }
+
+    boolean isPlain() {
+      return this.siblings.isEmpty() && this.style == ChatStyle.EMPTY;
+    }
+
+    // Reads components like Minecraft's chat serializer
+    static Chat deserialize(final JsonElement json, final JsonDeserializationContext context) {
+      if(json.isJsonPrimitive()) return new ChatText(json.getAsString());
+      if(!json.isJsonObject()) throw new JsonParseException("Unsupported component: " + json);
+
+      final JsonObject object = json.getAsJsonObject();
+      final Chat result;
+      if(object.has("text")) {
+        result = new ChatText(object.get("text").getAsString());
+      } else if(object.has("translate")) {
+        final List<Object> args = new ArrayList<>();
+        if(object.has("with")) {
+          for(final JsonElement element : object.getAsJsonArray("with")) {
+            final Chat arg = deserialize(element, context);
+            args.add(arg instanceof ChatText && arg.isPlain() ? ((ChatText) arg).text : arg);
+          }
+        }
+        result = new ChatTranslatable(object.get("translate").getAsString(), args.toArray());
+      } else {
+        throw new JsonParseException("Unsupported component: " + json);
+      }
+
+      if(object.has("extra")) {
+        for(final JsonElement element : object.getAsJsonArray("extra")) {
+          result.addSibling(deserialize(element, context));
+        }
+      }
+      final ChatStyle style = context.deserialize(json, ChatStyle.class);
+      if(style != ChatStyle.EMPTY) {
+        result.setChatModifier(style);
+      }
+      return result;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if(this == other) return true;
+      if(other == null || this.getClass() != other.getClass()) return false;
+      final Chat that = (Chat) other;
+      return this.siblings.equals(that.siblings) && this.style.equals(that.style);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * this.siblings.hashCode() + this.style.hashCode();
+    }
+  }
+
+  /**
+   * A stand-in for {@code ChatComponentText}.
+   */
+  public static final class ChatText extends Chat {
+    final String text;
+
+    public ChatText(final String text) {
+      this.text = text;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      return super.equals(other) && this.text.equals(((ChatText) other).text);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * super.hashCode() + this.text.hashCode();
+    }
+  }
+
+  /**
+   * A stand-in for {@code ChatMessage}.
+   */
+  public static final class ChatTranslatable extends Chat {
+    final String key;
+    final Object[] args;
+
+    public ChatTranslatable(final String key, final Object[] args) {
+      this.key = key;
+      this.args = args;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      return super.equals(other) && this.key.equals(((ChatTranslatable) other).key) && Arrays.equals(this.args, ((ChatTranslatable) other).args);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (31 * super.hashCode() + this.key.hashCode()) + Arrays.hashCode(this.args);
+    }
+  }
+
+  /**
+   * A stand-in for {@code ChatModifier}, which keeps the style's json.
+   */
+  public static final class ChatStyle {
+    static final ChatStyle EMPTY = new ChatStyle(new JsonObject());
+    private static final Set<String> CONTENT_KEYS = new HashSet<>(Arrays.asList("text", "translate", "with", "extra"));
+
+    final JsonObject json;
+
+    ChatStyle(final JsonObject json) {
+      this.json = json;
+    }
+
+    static ChatStyle deserialize(final JsonElement json) {
+      final JsonObject style = new JsonObject();
+      for(final Map.Entry<String, JsonElement> entry : json.getAsJsonObject().entrySet()) {
+        if(!CONTENT_KEYS.contains(entry.getKey())) {
+          style.add(entry.getKey(), entry.getValue());
+        }
+      }
+      return style.entrySet().isEmpty() ? EMPTY : new ChatStyle(style);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      return this == other || other instanceof ChatStyle && this.json.equals(((ChatStyle) other).json);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(this.json);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.spongeapi;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.nbt.api.BinaryTagHolder;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link NBTLegacyHoverEventSerializer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NBTLegacyHoverEventSerializerBenchmark {
+  private static final HoverEvent.ShowItem ITEM = HoverEvent.ShowItem.of(
+    Key.key("minecraft", "diamond_sword"),
+    1,
+    BinaryTagHolder.of("{display:{Name:'{\"text\":\"Sword\"}',Lore:['{\"text\":\"A sharp sword\"}']},Enchantments:[{id:\"minecraft:sharpness\",lvl:5s},{id:\"minecraft:unbreaking\",lvl:3s}]}")
+  );
+  private static final HoverEvent.ShowEntity ENTITY = HoverEvent.ShowEntity.of(
+    Key.key("minecraft", "zombie"),
+    new UUID(0x1234L, 0x5678L),
+    Component.text("Zombie", NamedTextColor.GREEN)
+  );
+
+  private Component item;
+  private Component entity;
+
+  @Setup
+  public void setup() throws IOException {
+    this.item = NBTLegacyHoverEventSerializer.INSTANCE.serializeShowItem(ITEM);
+    this.entity = NBTLegacyHoverEventSerializer.INSTANCE.serializeShowEntity(ENTITY, GsonComponentSerializer.gson()::serialize);
+  }
+
+  @Benchmark
+  public Component serializeShowItem() throws IOException {
+    return NBTLegacyHoverEventSerializer.INSTANCE.serializeShowItem(ITEM);
+  }
+
+  @Benchmark
+  public HoverEvent.ShowItem deserializeShowItem() throws IOException {
+    return NBTLegacyHoverEventSerializer.INSTANCE.deserializeShowItem(this.item);
+  }
+
+  @Benchmark
+  public Component serializeShowEntity() throws IOException {
+    return NBTLegacyHoverEventSerializer.INSTANCE.serializeShowEntity(ENTITY, GsonComponentSerializer.gson()::serialize);
+  }
+
+  @Benchmark
+  public HoverEvent.ShowEntity deserializeShowEntity() throws IOException {
+    return NBTLegacyHoverEventSerializer.INSTANCE.deserializeShowEntity(this.entity, GsonComponentSerializer.gson()::deserialize);
+  }
+}
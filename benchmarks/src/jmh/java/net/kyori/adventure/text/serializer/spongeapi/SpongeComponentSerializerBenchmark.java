@@ -0,0 +1,77 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.spongeapi;
+
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.benchmark.Fixture;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the adventure side of {@link SpongeComponentSerializer}.
+ *
+ * <p>Sponge's {@code TextSerializers.JSON} is only available in a running game,
+ * so this measures the json produced and read by the serializer's own gson serializer.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpongeComponentSerializerBenchmark {
+  // Matches SpongeComponentSerializer
+  private static final GsonComponentSerializer LEGACY_GSON_SERIALIZER = GsonComponentSerializer.builder()
+    .downsampleColors()
+    .emitLegacyHoverEvent()
+    .legacyHoverEventSerializer(NBTLegacyHoverEventSerializer.INSTANCE)
+    .build();
+
+  @Param({"FLAT", "DEEP", "HOVER_CLICK", "TRANSLATABLE"})
+  private Fixture fixture;
+
+  private Component component;
+  private String json;
+
+  @Setup
+  public void setup() {
+    this.component = this.fixture.component();
+    this.json = LEGACY_GSON_SERIALIZER.serialize(this.component);
+  }
+
+  @Benchmark
+  public String serialize() {
+    return LEGACY_GSON_SERIALIZER.serialize(this.component);
+  }
+
+  @Benchmark
+  public Component deserialize() {
+    return LEGACY_GSON_SERIALIZER.deserialize(this.json);
+  }
+}
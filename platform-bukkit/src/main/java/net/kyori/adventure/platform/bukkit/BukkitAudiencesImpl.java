@@ -28,6 +28,7 @@ import com.google.common.graph.MutableGraph;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.platform.facet.FacetAudienceProvider;
+import net.kyori.adventure.platform.facet.FacetScheduler;
 import net.kyori.adventure.platform.facet.Knob;
 import net.kyori.adventure.translation.Translator;
 import org.bukkit.Bukkit;
@@ -41,11 +42,15 @@ import org.bukkit.event.Event;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.IllegalPluginAccessException;
 import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -58,8 +63,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Level;
 
 import static java.util.Objects.requireNonNull;
@@ -88,6 +95,9 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
   BukkitAudiencesImpl(final @NotNull Plugin plugin) {
     this.plugin = plugin;
     this.softDepend("ViaVersion");
+    this.scheduler(new Scheduler(plugin));
+    // Only packet facets run on the workers, facets that use the Bukkit API run on the main thread
+    this.async(Knob.isEnabled("async", false));
 
     final CommandSender console = this.plugin.getServer().getConsoleSender();
     this.addViewer(console);
@@ -99,8 +109,12 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
 
     this.registerEvent(PlayerJoinEvent.class, EventPriority.LOWEST, event ->
       this.addViewer(event.getPlayer()));
-    this.registerEvent(PlayerQuitEvent.class, EventPriority.MONITOR, event ->
-      this.removeViewer(event.getPlayer()));
+    this.registerEvent(PlayerQuitEvent.class, EventPriority.MONITOR, event -> {
+      this.removeViewer(event.getPlayer());
+      CraftBukkitFacet.forgetConnection(event.getPlayer());
+    });
+    this.registerEvent(PlayerChangedWorldEvent.class, EventPriority.MONITOR, event ->
+      this.changeWorld(event.getPlayer(), event.getPlayer().getWorld().getName()));
     this.registerLocaleEvent(this::changeViewer);
   }
 
@@ -151,6 +165,14 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
     return false;
   }
 
+  @Override
+  protected @Nullable String findWorld(final @NotNull CommandSender viewer) {
+    if(viewer instanceof Player) {
+      return ((Player) viewer).getWorld().getName();
+    }
+    return null;
+  }
+
   @Override
   protected boolean isOnServer(final @NotNull CommandSender viewer, final @NotNull String server) {
     return false;
@@ -267,4 +289,62 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
     }
     return Locale.US;
   }
+
+  /**
+   * A scheduler that runs tasks on the main thread, with delays rounded up to the next tick.
+   */
+  private static final class Scheduler implements FacetScheduler {
+    private static final long MILLIS_PER_TICK = 50;
+
+    private final Plugin plugin;
+
+    Scheduler(final @NotNull Plugin plugin) {
+      this.plugin = plugin;
+    }
+
+    @Override
+    public @NotNull Task schedule(final @NotNull Runnable task, final long delay, final @NotNull TimeUnit unit) {
+      return this.run(scheduler -> scheduler.runTaskLater(this.plugin, task, toTicks(delay, unit)));
+    }
+
+    @Override
+    public @NotNull Task repeat(final @NotNull Runnable task, final long period, final @NotNull TimeUnit unit) {
+      final long ticks = toTicks(period, unit);
+      return this.run(scheduler -> scheduler.runTaskTimer(this.plugin, task, ticks, ticks));
+    }
+
+    private @NotNull Task run(final @NotNull Function<BukkitScheduler, BukkitTask> schedule) {
+      final ScheduledTask scheduled = new ScheduledTask();
+      try {
+        scheduled.task = schedule.apply(this.plugin.getServer().getScheduler());
+      } catch(final IllegalPluginAccessException error) {
+        scheduled.cancelled = true; // The plugin was disabled
+      }
+      return scheduled;
+    }
+
+    private static long toTicks(final long delay, final @NotNull TimeUnit unit) {
+      return Math.max(1, (unit.toMillis(delay) + MILLIS_PER_TICK - 1) / MILLIS_PER_TICK);
+    }
+  }
+
+  private static final class ScheduledTask implements FacetScheduler.Task {
+    // BukkitTask#isCancelled is not available on older versions
+    private volatile @Nullable BukkitTask task;
+    private volatile boolean cancelled;
+
+    @Override
+    public void cancel() {
+      this.cancelled = true;
+      final BukkitTask task = this.task;
+      if(task != null) {
+        task.cancel();
+      }
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return this.cancelled;
+    }
+  }
 }
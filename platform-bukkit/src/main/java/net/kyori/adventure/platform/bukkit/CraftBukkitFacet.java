@@ -25,6 +25,10 @@ package net.kyori.adventure.platform.bukkit;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.AttributeKey;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -33,19 +37,28 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.invoke.MethodHandle;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.nbt.BinaryTagIO;
@@ -72,6 +85,8 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.plugin.Plugin;
@@ -79,16 +94,20 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import static java.lang.invoke.MethodHandles.dropArguments;
+import static java.lang.invoke.MethodHandles.filterReturnValue;
 import static java.lang.invoke.MethodType.methodType;
 import static net.kyori.adventure.platform.facet.Knob.isEnabled;
 import static net.kyori.adventure.platform.facet.Knob.logError;
 import static net.kyori.adventure.text.serializer.craftbukkit.BukkitComponentSerializer.gson;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findBiConsumer;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findBiFunction;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findClass;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findConstructor;
 import static net.kyori.adventure.text.serializer.craftbukkit.BukkitComponentSerializer.legacy;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findCraftClass;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findEnum;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findField;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findFunction;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findMcClass;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findMcClassName;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findMethod;
@@ -120,6 +139,9 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
   private static final @Nullable MethodHandle CRAFT_PLAYER_GET_HANDLE;
   private static final @Nullable MethodHandle ENTITY_PLAYER_GET_CONNECTION;
   private static final @Nullable MethodHandle PLAYER_CONNECTION_SEND_PACKET;
+  private static final @Nullable MethodHandle CRAFT_PLAYER_GET_CONNECTION; // (Player) -> PlayerConnection, typed as Object
+  private static final @Nullable BiConsumer<Object, Object> CONNECTION_SEND_PACKET; // (PlayerConnection, Packet) -> void
+  private static final @Nullable NetworkManager NETWORK_MANAGER; // PlayerConnection -> NetworkManager, with its channel and queue
 
   static {
     final Class<?> craftPlayerClass = findCraftClass("entity.CraftPlayer");
@@ -131,6 +153,7 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     MethodHandle craftPlayerGetHandle = null;
     MethodHandle entityPlayerGetConnection = null;
     MethodHandle playerConnectionSendPacket = null;
+    NetworkManager networkManager = null;
     if(craftPlayerClass != null && packetClass != null) {
       try {
         final Method getHandleMethod = craftPlayerClass.getMethod("getHandle");
@@ -158,19 +181,244 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
           }
         }
         playerConnectionSendPacket = findMethod(playerConnectionClass, new String[]{"sendPacket", "send"}, void.class, packetClass);
+        if(isEnabled("packetBatching", true) || isEnabled("preEncode", false)) {
+          networkManager = NetworkManager.find(playerConnectionClass);
+        }
       } catch(final Throwable error) {
         logError(error, "Failed to initialize CraftBukkit sendPacket");
       }
     }
 
+    MethodHandle craftPlayerGetConnection = null;
+    if(craftPlayerGetHandle != null && entityPlayerGetConnection != null) {
+      try {
+        // Adapt the handles to erased types once, so the connection lookup can use invokeExact
+        craftPlayerGetConnection = filterReturnValue(
+          craftPlayerGetHandle.asType(methodType(Object.class, Player.class)),
+          entityPlayerGetConnection.asType(methodType(Object.class, Object.class))
+        );
+      } catch(final Throwable error) {
+        logError(error, "Failed to adapt CraftBukkit getHandle");
+      }
+    }
+
     CRAFT_PLAYER_GET_HANDLE = craftPlayerGetHandle;
     ENTITY_PLAYER_GET_CONNECTION = entityPlayerGetConnection;
     PLAYER_CONNECTION_SEND_PACKET = playerConnectionSendPacket;
+    CRAFT_PLAYER_GET_CONNECTION = craftPlayerGetConnection;
+    CONNECTION_SEND_PACKET = findBiConsumer(playerConnectionSendPacket);
+    NETWORK_MANAGER = networkManager;
+  }
+
+  /**
+   * The network manager of a player connection, for writing packets straight to its channel.
+   *
+   * <p>Fields are found by type, since their names and declaring classes vary between versions.
+   * Writing to the channel is only safe once the connection is in the play state and the manager
+   * has no queued packets, otherwise packets could overtake those sent before them.</p>
+   */
+  private static final class NetworkManager {
+    private final MethodHandle getManager; // (PlayerConnection) -> NetworkManager, both typed as Object
+    private final MethodHandle getChannel; // (NetworkManager) -> Channel, manager typed as Object
+    private final MethodHandle getQueue; // (NetworkManager) -> Queue, manager typed as Object
+    private final List<MethodHandle> getListeners; // (NetworkManager) -> PacketListener, both typed as Object
+
+    private NetworkManager(final @NotNull MethodHandle getManager, final @NotNull MethodHandle getChannel, final @NotNull MethodHandle getQueue, final @NotNull List<MethodHandle> getListeners) {
+      this.getManager = getManager;
+      this.getChannel = getChannel;
+      this.getQueue = getQueue;
+      this.getListeners = getListeners;
+    }
+
+    /**
+     * Finds the network manager of a connection class.
+     *
+     * @param connectionClass a connection class
+     * @return a network manager, or {@code null} if any of its fields could not be found
+     * @throws Throwable if the getters could not be created
+     */
+    static @Nullable NetworkManager find(final @Nullable Class<?> connectionClass) throws Throwable {
+      final Class<?> managerClass = findClass(
+        findNmsClassName("NetworkManager"),
+        findMcClassName("network.NetworkManager"),
+        findMcClassName("network.Connection")
+      );
+      final Class<?> listenerClass = findClass(
+        findNmsClassName("PacketListener"),
+        findMcClassName("network.PacketListener")
+      );
+      if(connectionClass == null || managerClass == null || listenerClass == null) return null;
+
+      final Field managerField = findFieldOfType(connectionClass, managerClass);
+      final Field channelField = findFieldOfType(managerClass, Channel.class);
+      final Field queueField = findFieldOfType(managerClass, Queue.class);
+      if(managerField == null || channelField == null || queueField == null) return null;
+
+      final List<MethodHandle> getListeners = new ArrayList<>();
+      for(Class<?> holder = managerClass; holder != null && holder != Object.class; holder = holder.getSuperclass()) {
+        for(final Field field : holder.getDeclaredFields()) {
+          if(!Modifier.isStatic(field.getModifiers()) && field.getType() == listenerClass) {
+            field.setAccessible(true);
+            getListeners.add(lookup().unreflectGetter(field).asType(methodType(Object.class, Object.class)));
+          }
+        }
+      }
+      if(getListeners.isEmpty()) return null;
+
+      return new NetworkManager(
+        lookup().unreflectGetter(managerField).asType(methodType(Object.class, Object.class)),
+        lookup().unreflectGetter(channelField).asType(methodType(Channel.class, Object.class)),
+        lookup().unreflectGetter(queueField).asType(methodType(Queue.class, Object.class)),
+        getListeners
+      );
+    }
+
+    /**
+     * Gets the channel of a connection, if packets can be written straight to it.
+     *
+     * @param connection a player connection
+     * @return a channel, or {@code null} if packets must be sent through the connection
+     * @throws Throwable if the network manager could not be read
+     */
+    @Nullable Channel findPlayChannel(final @NotNull Object connection) throws Throwable {
+      final Object manager = this.getManager.invokeExact(connection);
+      if(manager == null) return null;
+
+      final Channel channel = (Channel) this.getChannel.invokeExact(manager);
+      if(channel == null || !channel.isOpen()) return null;
+
+      // The connection only listens to its manager in the play state
+      boolean playing = false;
+      for(final MethodHandle getListener : this.getListeners) {
+        playing |= getListener.invokeExact(manager) == connection;
+      }
+      if(!playing) return null;
+
+      final Queue<?> queue = (Queue<?>) this.getQueue.invokeExact(manager);
+      return queue == null || queue.isEmpty() ? channel : null;
+    }
+  }
+
+  /**
+   * Finds the only instance field of a type, in a class or its superclasses.
+   *
+   * @param holder a class
+   * @param type a field type
+   * @return a field, or {@code null} if there is not exactly one
+   */
+  private static @Nullable Field findFieldOfType(final @NotNull Class<?> holder, final @NotNull Class<?> type) {
+    Field found = null;
+    for(Class<?> current = holder; current != null && current != Object.class; current = current.getSuperclass()) {
+      for(final Field field : current.getDeclaredFields()) {
+        if(Modifier.isStatic(field.getModifiers()) || !type.isAssignableFrom(field.getType())) continue;
+        if(found != null) return null; // Ambiguous, forks may add fields of the same type
+        found = field;
+      }
+    }
+    if(found != null) {
+      found.setAccessible(true);
+    }
+    return found;
+  }
+
+  private static final Map<UUID, CachedConnection> CONNECTIONS = new ConcurrentHashMap<>();
+
+  /**
+   * Gets the connection of a player, resolving it only once for each time they join.
+   *
+   * @param player a player
+   * @return a connection or {@code null}
+   * @throws Throwable if the connection could not be resolved
+   */
+  static @Nullable Object findConnection(final @NotNull Player player) throws Throwable {
+    final UUID playerId = player.getUniqueId();
+    final CachedConnection cached = CONNECTIONS.get(playerId);
+    if(cached != null) {
+      final Object connection = cached.get(player);
+      if(connection != null) return connection;
+    }
+
+    final Object connection = CRAFT_PLAYER_GET_CONNECTION.invokeExact(player);
+    if(connection != null) {
+      CONNECTIONS.put(playerId, new CachedConnection(player, connection));
+    }
+    return connection;
+  }
+
+  /**
+   * Forgets the connection of a player, once they have quit.
+   *
+   * @param player a player
+   */
+  static void forgetConnection(final @NotNull Player player) {
+    CONNECTIONS.remove(player.getUniqueId());
+  }
+
+  private static final class CachedConnection {
+    // Both are weak, so a missed quit never keeps a player or their connection alive
+    private final WeakReference<Player> player;
+    private final WeakReference<Object> connection;
+
+    CachedConnection(final @NotNull Player player, final @NotNull Object connection) {
+      this.player = new WeakReference<>(player);
+      this.connection = new WeakReference<>(connection);
+    }
+
+    @Nullable Object get(final @NotNull Player player) {
+      // Players are compared by identity, a rejoined player has the same id but a new connection
+      return this.player.get() == player ? this.connection.get() : null;
+    }
   }
 
   private static final boolean SUPPORTED = isEnabled("craftbukkit", true)
     && MinecraftComponentSerializer.isSupported()
-    && CRAFT_PLAYER_GET_HANDLE != null && ENTITY_PLAYER_GET_CONNECTION != null && PLAYER_CONNECTION_SEND_PACKET != null;
+    && CRAFT_PLAYER_GET_CONNECTION != null && CONNECTION_SEND_PACKET != null;
+
+  private static final boolean PACKET_BATCHING = isEnabled("packetBatching", true);
+  private static final boolean PRE_ENCODE = isEnabled("preEncode", false);
+
+  private static final @Nullable MethodHandle PLAYER_GET_CHAT_VISIBILITY; // (Player) -> EnumChatVisibility, typed as Object
+
+  static {
+    MethodHandle playerGetChatVisibility = null;
+    if(PRE_ENCODE && CRAFT_PLAYER_GET_HANDLE != null) {
+      final Class<?> chatVisibilityClass = findClass(
+        findNmsClassName("EnumChatVisibility"),
+        findNmsClassName("EntityHuman$EnumChatVisibility"),
+        findMcClassName("world.entity.player.EnumChatVisibility"),
+        findMcClassName("world.entity.player.ChatVisiblity")
+      );
+      final Field chatVisibilityField = chatVisibilityClass == null ? null : findFieldOfType(CRAFT_PLAYER_GET_HANDLE.type().returnType(), chatVisibilityClass);
+      if(chatVisibilityField != null) {
+        try {
+          playerGetChatVisibility = filterReturnValue(
+            CRAFT_PLAYER_GET_HANDLE.asType(methodType(Object.class, Player.class)),
+            lookup().unreflectGetter(chatVisibilityField).asType(methodType(Object.class, Object.class))
+          );
+        } catch(final Throwable error) {
+          logError(error, "Failed to find CraftBukkit chat visibility");
+        }
+      }
+    }
+    PLAYER_GET_CHAT_VISIBILITY = playerGetChatVisibility;
+  }
+
+  /**
+   * Gets if a player sees every chat message, so no message would be filtered by their chat visibility.
+   *
+   * @param player a player
+   * @return if the player has full chat visibility, or {@code false} if unknown
+   */
+  static boolean hasFullChatVisibility(final @NotNull Player player) {
+    if(PLAYER_GET_CHAT_VISIBILITY == null) return false;
+    try {
+      final Object visibility = PLAYER_GET_CHAT_VISIBILITY.invokeExact(player);
+      return visibility instanceof Enum<?> && ((Enum<?>) visibility).ordinal() == 0; // FULL, then SYSTEM and HIDDEN
+    } catch(final Throwable error) {
+      logError(error, "Failed to get CraftBukkit chat visibility: %s", player);
+      return false;
+    }
+  }
 
   static class PacketFacet<V extends CommandSender> extends CraftBukkitFacet<V> implements Facet.Message<V, Object> {
     @SuppressWarnings("unchecked")
@@ -178,16 +426,98 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       super((Class<V>) CLASS_CRAFT_PLAYER);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+      return true; // Connections queue packets sent from other threads
+    }
+
     public void sendPacket(final @NotNull Player player, final @Nullable Object packet) {
       if(packet == null) return;
 
       try {
-        PLAYER_CONNECTION_SEND_PACKET.invoke(ENTITY_PLAYER_GET_CONNECTION.invoke(CRAFT_PLAYER_GET_HANDLE.invoke(player)), packet);
+        final Object connection = findConnection(player);
+        if(connection != null) {
+          CONNECTION_SEND_PACKET.accept(connection, packet);
+        }
       } catch(final Throwable error) {
         logError(error, "Failed to invoke CraftBukkit sendPacket: %s", packet);
       }
     }
 
+    /**
+     * Sends packets to a player, then flushes their connection once.
+     *
+     * <p>Packets are written in a single task on the connection's event loop, so they are not
+     * interleaved with other packets. Unless the connection is in the play state with no queued
+     * packets, each packet is sent on its own.</p>
+     *
+     * @param player a player
+     * @param packets packets, {@code null} packets are skipped
+     */
+    public void sendPackets(final @NotNull Player player, final @NotNull Collection<?> packets) {
+      if(!PACKET_BATCHING || NETWORK_MANAGER == null || packets.size() < 2) {
+        for(final Object packet : packets) {
+          this.sendPacket(player, packet);
+        }
+        return;
+      }
+
+      try {
+        final Object connection = findConnection(player);
+        if(connection == null) return;
+
+        final Channel channel = NETWORK_MANAGER.findPlayChannel(connection);
+        if(channel == null) {
+          for(final Object packet : packets) {
+            if(packet != null) {
+              CONNECTION_SEND_PACKET.accept(connection, packet);
+            }
+          }
+          return;
+        }
+
+        final Runnable write = () -> {
+          for(final Object packet : packets) {
+            if(packet != null) {
+              channel.write(packet);
+            }
+          }
+          channel.flush();
+        };
+        if(channel.eventLoop().inEventLoop()) {
+          write.run();
+        } else {
+          channel.eventLoop().execute(write);
+        }
+      } catch(final Throwable error) {
+        logError(error, "Failed to send CraftBukkit packets: %s", packets);
+      }
+    }
+
+    /**
+     * Sends a packet that may already be encoded for another player.
+     *
+     * <p>Encoded packets skip {@code sendPacket}, so they must not be subject to any check made there,
+     * such as the player's chat visibility.</p>
+     *
+     * @param player a player
+     * @param packet an encoded packet
+     */
+    public void sendEncodedPacket(final @NotNull Player player, final @NotNull EncodedPacket packet) {
+      if(PRE_ENCODE && NETWORK_MANAGER != null) {
+        try {
+          final Object connection = findConnection(player);
+          if(connection == null) return;
+
+          final Channel channel = NETWORK_MANAGER.findPlayChannel(connection);
+          if(channel != null && packet.write(channel)) return;
+        } catch(final Throwable error) {
+          logError(error, "Failed to send encoded CraftBukkit packet: %s", packet.packet);
+        }
+      }
+      this.sendPacket(player, packet.packet);
+    }
+
     public void sendMessage(final @NotNull V player, final @Nullable Object packet) {
       this.sendPacket((Player) player, packet);
     }
@@ -204,6 +534,116 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     }
   }
 
+  private static final Map<Class<?>, Optional<MethodHandle>> ENCODERS = new ConcurrentHashMap<>();
+
+  /**
+   * A packet that is encoded once, then written to the channel of every player that receives it.
+   *
+   * <p>The encoded bytes are written past the vanilla {@code encoder} handler, so compression and
+   * encryption are still applied by each channel. Channels whose pipeline has handlers from plugins,
+   * such as ViaVersion or ProtocolLib, at or after the encoder do not use the encoded bytes.
+   * Channels are grouped by encoder class and protocol state, and the bytes of the latest group are kept.</p>
+   */
+  static final class EncodedPacket {
+    private static final String ENCODER = "encoder";
+    private static final AttributeKey<Object> PROTOCOL = AttributeKey.valueOf("protocol"); // Absent once encoders hold their own state
+
+    private final Object packet;
+    private volatile @Nullable Encoding encoding;
+
+    EncodedPacket(final @NotNull Object packet) {
+      this.packet = packet;
+    }
+
+    /**
+     * Writes the encoded packet to a channel.
+     *
+     * <p>The packet is encoded and written on the channel's event loop, since encoders are not thread-safe.</p>
+     *
+     * @param channel a channel
+     * @return if the packet will be written, or {@code false} if it must be sent normally
+     */
+    boolean write(final @NotNull Channel channel) {
+      final ChannelHandlerContext context = channel.pipeline().context(ENCODER);
+      if(context == null || !isVanilla(channel, context)) return false;
+
+      final ChannelHandler encoder = context.handler();
+      final MethodHandle encode = ENCODERS.computeIfAbsent(encoder.getClass(), EncodedPacket::findEncode).orElse(null);
+      if(encode == null) return false;
+
+      final Runnable write = () -> {
+        try {
+          final Object state = channel.attr(PROTOCOL).get();
+          Encoding encoding = this.encoding;
+          if(encoding == null || !encoding.isFor(encoder.getClass(), state)) {
+            // Heap buffers are freed by the garbage collector, so a replaced encoding never needs to be released
+            final ByteBuf buffer = Unpooled.buffer();
+            encode.invoke(encoder, context, this.packet, buffer);
+            this.encoding = encoding = new Encoding(encoder.getClass(), state, buffer);
+          }
+
+          // Each write releases its duplicate once flushed, which leaves the shared buffer intact
+          context.writeAndFlush(encoding.buffer.duplicate().retain());
+        } catch(final Throwable error) {
+          logError(error, "Failed to encode CraftBukkit packet: %s", this.packet);
+          channel.writeAndFlush(this.packet);
+        }
+      };
+      if(channel.eventLoop().inEventLoop()) {
+        write.run();
+      } else {
+        channel.eventLoop().execute(write);
+      }
+      return true;
+    }
+
+    private static boolean isVanilla(final @NotNull Channel channel, final @NotNull ChannelHandlerContext encoder) {
+      boolean found = false;
+      for(final Map.Entry<String, ChannelHandler> entry : channel.pipeline()) {
+        found |= entry.getValue() == encoder.handler();
+        if(found && !entry.getValue().getClass().getName().startsWith("net.minecraft.")) {
+          return false;
+        }
+      }
+      return found;
+    }
+
+    private static @NotNull Optional<MethodHandle> findEncode(final @NotNull Class<?> encoderClass) {
+      for(Class<?> holder = encoderClass; holder != null && holder != Object.class; holder = holder.getSuperclass()) {
+        for(final Method method : holder.getDeclaredMethods()) {
+          final Class<?>[] parameters = method.getParameterTypes();
+          if(method.getName().equals("encode") && !Modifier.isAbstract(method.getModifiers()) && parameters.length == 3
+            && parameters[0] == ChannelHandlerContext.class && parameters[2] == ByteBuf.class) {
+            try {
+              method.setAccessible(true);
+              return Optional.of(lookup().unreflect(method));
+            } catch(final Throwable error) {
+              logError(error, "Failed to find encode method: %s", encoderClass);
+              return Optional.empty();
+            }
+          }
+        }
+      }
+      return Optional.empty();
+    }
+
+    private static final class Encoding {
+      private final Class<?> encoder;
+      private final @Nullable Object state;
+      private final ByteBuf buffer;
+
+      Encoding(final @NotNull Class<?> encoder, final @Nullable Object state, final @NotNull ByteBuf buffer) {
+        this.encoder = encoder;
+        this.state = state;
+        this.buffer = buffer;
+      }
+
+      boolean isFor(final @NotNull Class<?> encoder, final @Nullable Object state) {
+        return this.encoder == encoder && this.state == state;
+      }
+    }
+  }
+
   private static final @Nullable Class<?> CLASS_CHAT_COMPONENT = findClass(
     findNmsClassName("IChatBaseComponent"),
     findMcClassName("network.chat.IChatBaseComponent"),
@@ -261,13 +701,64 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       return super.isSupported() && CHAT_PACKET_CONSTRUCTOR != null;
     }
 
+    @Nullable
+    @Override
+    public Object createMessage(final @NotNull CommandSender viewer, final @NotNull Component message) {
+      final Object component = super.createMessage(viewer, message);
+      return component == null ? null : new ChatMessage(component);
+    }
+
     @Override
     public void sendMessage(final @NotNull CommandSender viewer, final @NotNull Identity source, final @NotNull Object message, final @NotNull MessageType type) {
+      final ChatMessage chat = (ChatMessage) message;
       final Object messageType = type == MessageType.CHAT ? MESSAGE_TYPE_CHAT : MESSAGE_TYPE_SYSTEM;
-      try {
-        this.sendMessage(viewer, CHAT_PACKET_CONSTRUCTOR.invoke(message, messageType, source.uuid()));
-      } catch(final Throwable error) {
-        logError(error, "Failed to invoke PacketPlayOutChat constructor: %s %s", message, messageType);
+      final UUID sender = source.uuid();
+      ChatPacket packet = chat.packet;
+      if(packet == null || !packet.isFor(messageType, sender)) {
+        try {
+          packet = new ChatPacket(messageType, sender, new EncodedPacket(CHAT_PACKET_CONSTRUCTOR.invoke(chat.component, messageType, sender)));
+        } catch(final Throwable error) {
+          logError(error, "Failed to invoke PacketPlayOutChat constructor: %s %s", chat.component, messageType);
+          return;
+        }
+        chat.packet = packet;
+      }
+      // Vanilla hides some messages from players who limited their chat, only sendPacket knows which
+      if(hasFullChatVisibility((Player) viewer)) {
+        this.sendEncodedPacket((Player) viewer, packet.packet);
+      } else {
+        this.sendPacket((Player) viewer, packet.packet.packet);
+      }
+    }
+
+    /**
+     * A component, and the last packet that was built for it.
+     *
+     * <p>A broadcast creates one message for each group of viewers, so the packet is shared
+     * by every viewer in the group, and is released along with the message.</p>
+     */
+    private static final class ChatMessage {
+      private final Object component;
+      private volatile @Nullable ChatPacket packet;
+
+      ChatMessage(final @NotNull Object component) {
+        this.component = component;
+      }
+    }
+
+    private static final class ChatPacket {
+      private final Object type;
+      private final UUID sender;
+      private final EncodedPacket packet;
+
+      ChatPacket(final @Nullable Object type, final @NotNull UUID sender, final @NotNull EncodedPacket packet) {
+        this.type = type;
+        this.sender = sender;
+        this.packet = packet;
+      }
+
+      boolean isFor(final @Nullable Object type, final @NotNull UUID sender) {
+        return this.type == type && this.sender.equals(sender);
       }
     }
   }
@@ -280,7 +771,7 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     findNmsClassName("PacketPlayOutTitle$EnumTitleAction"), // welcome to spigot, where we can't name classes? i guess?
     findMcClassName("network.protocol.game.PacketPlayOutTitle$EnumTitleAction")
   );
-  private static final MethodHandle CONSTRUCTOR_TITLE_MESSAGE = findConstructor(CLASS_TITLE_PACKET, CLASS_TITLE_ACTION, CLASS_CHAT_COMPONENT); // (EnumTitleAction, IChatBaseComponent)
+  private static final @Nullable BiFunction<Object, Object, Object> CONSTRUCTOR_TITLE_MESSAGE = findBiFunction(findConstructor(CLASS_TITLE_PACKET, CLASS_TITLE_ACTION, CLASS_CHAT_COMPONENT)); // (EnumTitleAction, IChatBaseComponent)
   private static final @Nullable MethodHandle CONSTRUCTOR_TITLE_TIMES = findConstructor(CLASS_TITLE_PACKET, int.class, int.class, int.class);
   private static final @Nullable Object TITLE_ACTION_TITLE = findEnum(CLASS_TITLE_ACTION, "TITLE", 0);
   private static final @Nullable Object TITLE_ACTION_SUBTITLE = findEnum(CLASS_TITLE_ACTION, "SUBTITLE", 1);
@@ -290,7 +781,7 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
 
   static class ActionBar_1_17 extends PacketFacet<Player> implements Facet.ActionBar<Player, Object> {
     private static final @Nullable Class<?> CLASS_SET_ACTION_BAR_TEXT_PACKET = findMcClass("network.protocol.game.ClientboundSetActionBarTextPacket");
-    private static final @Nullable MethodHandle CONSTRUCTOR_ACTION_BAR = findConstructor(CLASS_SET_ACTION_BAR_TEXT_PACKET, CLASS_CHAT_COMPONENT);
+    private static final @Nullable Function<Object, Object> CONSTRUCTOR_ACTION_BAR = findFunction(findConstructor(CLASS_SET_ACTION_BAR_TEXT_PACKET, CLASS_CHAT_COMPONENT));
 
     @Override
     public boolean isSupported() {
@@ -301,7 +792,7 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     @Override
     public Object createMessage(final @NotNull Player viewer, final @NotNull Component message) {
       try {
-        return CONSTRUCTOR_ACTION_BAR.invoke(super.createMessage(viewer, message));
+        return CONSTRUCTOR_ACTION_BAR.apply(super.createMessage(viewer, message));
       } catch(final Throwable error) {
         logError(error, "Failed to invoke PacketPlayOutTitle constructor: %s", message);
         return null;
@@ -319,7 +810,7 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     @Override
     public Object createMessage(final @NotNull Player viewer, final @NotNull Component message) {
       try {
-        return CONSTRUCTOR_TITLE_MESSAGE.invoke(TITLE_ACTION_ACTIONBAR, super.createMessage(viewer, message));
+        return CONSTRUCTOR_TITLE_MESSAGE.apply(TITLE_ACTION_ACTIONBAR, super.createMessage(viewer, message));
       } catch(final Throwable error) {
         logError(error, "Failed to invoke PacketPlayOutTitle constructor: %s", message);
         return null;
@@ -443,6 +934,11 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
 
     private static final Map<String, Object> MC_SOUND_SOURCE_BY_NAME = new ConcurrentHashMap<>();
 
+    @Override
+    public boolean isThreadSafe() {
+      return false; // Reads the emitting entity
+    }
+
     @Override
     public boolean isSupported() {
       return super.isSupported() && NEW_CLIENTBOUND_ENTITY_SOUND != null && NEW_RESOURCE_LOCATION != null && REGISTRY_SOUND_EVENT != null && REGISTRY_GET_OPTIONAL != null && CRAFT_ENTITY_GET_HANDLE != null && SOUND_SOURCE_GET_NAME != null;
@@ -513,8 +1009,8 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     private static final Class<?> PACKET_SET_TITLE_ANIMATION = findMcClass("network.protocol.game.ClientboundSetTitlesAnimationPacket");
     private static final Class<?> PACKET_CLEAR_TITLES = findMcClass("network.protocol.game.ClientboundClearTitlesPacket");
 
-    private static final MethodHandle CONSTRUCTOR_SET_TITLE = findConstructor(PACKET_SET_TITLE, CLASS_CHAT_COMPONENT);
-    private static final MethodHandle CONSTRUCTOR_SET_SUBTITLE = findConstructor(PACKET_SET_SUBTITLE, CLASS_CHAT_COMPONENT);
+    private static final Function<Object, Object> CONSTRUCTOR_SET_TITLE = findFunction(findConstructor(PACKET_SET_TITLE, CLASS_CHAT_COMPONENT));
+    private static final Function<Object, Object> CONSTRUCTOR_SET_SUBTITLE = findFunction(findConstructor(PACKET_SET_SUBTITLE, CLASS_CHAT_COMPONENT));
     private static final MethodHandle CONSTRUCTOR_SET_TITLE_ANIMATION = findConstructor(PACKET_SET_TITLE_ANIMATION, int.class, int.class, int.class);
     private static final MethodHandle CONSTRUCTOR_CLEAR_TITLES = findConstructor(PACKET_CLEAR_TITLES, boolean.class);
 
@@ -528,13 +1024,13 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       final List<Object> packets = new LinkedList<>();
       try {
         if(subTitle != null) {
-          packets.add(CONSTRUCTOR_SET_SUBTITLE.invoke(subTitle));
+          packets.add(CONSTRUCTOR_SET_SUBTITLE.apply(subTitle));
         }
         if(inTicks != -1 || stayTicks != -1 || outTicks != -1) {
           packets.add(CONSTRUCTOR_SET_TITLE_ANIMATION.invoke(inTicks, stayTicks, outTicks));
         }
         if(title != null) {
-          packets.add(CONSTRUCTOR_SET_TITLE.invoke(title));
+          packets.add(CONSTRUCTOR_SET_TITLE.apply(title));
         }
       } catch(final Throwable error) {
         logError(error, "Failed to invoke title packet constructors");
@@ -544,9 +1040,12 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
 
     @Override
     public void showTitle(final @NotNull Player viewer, final @NotNull List<?> packets) {
-      for(final Object packet : packets) {
-        this.sendMessage(viewer, packet);
-      }
+      this.sendPackets(viewer, packets);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+      return CONSTRUCTOR_CLEAR_TITLES != null; // Otherwise titles are cleared through the Bukkit API
     }
 
     @Override
@@ -588,13 +1087,13 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       final List<Object> packets = new LinkedList<>();
       try {
         if(subTitle != null) {
-          packets.add(CONSTRUCTOR_TITLE_MESSAGE.invoke(TITLE_ACTION_SUBTITLE, subTitle));
+          packets.add(CONSTRUCTOR_TITLE_MESSAGE.apply(TITLE_ACTION_SUBTITLE, subTitle));
         }
         if(inTicks != -1 || stayTicks != -1 || outTicks != -1) {
           packets.add(CONSTRUCTOR_TITLE_TIMES.invoke(inTicks, stayTicks, outTicks));
         }
         if(title != null) {
-          packets.add(CONSTRUCTOR_TITLE_MESSAGE.invoke(TITLE_ACTION_TITLE, title));
+          packets.add(CONSTRUCTOR_TITLE_MESSAGE.apply(TITLE_ACTION_TITLE, title));
         }
       } catch(final Throwable error) {
         logError(error, "Failed to invoke PacketPlayOutTitle constructor");
@@ -604,16 +1103,19 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
 
     @Override
     public void showTitle(final @NotNull Player viewer, final @NotNull List<?> packets) {
-      for(final Object packet : packets) {
-        this.sendMessage(viewer, packet);
-      }
+      this.sendPackets(viewer, packets);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+      return TITLE_ACTION_CLEAR != null && TITLE_ACTION_RESET != null; // Otherwise titles are cleared through the Bukkit API
     }
 
     @Override
     public void clearTitle(final @NotNull Player viewer) {
       try {
         if(TITLE_ACTION_CLEAR != null) {
-          this.sendPacket(viewer, CONSTRUCTOR_TITLE_MESSAGE.invoke(TITLE_ACTION_CLEAR, null));
+          this.sendPacket(viewer, CONSTRUCTOR_TITLE_MESSAGE.apply(TITLE_ACTION_CLEAR, null));
         } else {
           viewer.sendTitle("", "", -1, -1, -1);
         }
@@ -626,7 +1128,7 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     public void resetTitle(final @NotNull Player viewer) {
       try {
         if(TITLE_ACTION_RESET != null) {
-          this.sendPacket(viewer, CONSTRUCTOR_TITLE_MESSAGE.invoke(TITLE_ACTION_RESET, null));
+          this.sendPacket(viewer, CONSTRUCTOR_TITLE_MESSAGE.apply(TITLE_ACTION_RESET, null));
         } else {
           viewer.resetTitle();
         }
@@ -643,6 +1145,11 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
 
     protected abstract void sendOpenPacket(final @NotNull Player viewer) throws Throwable;
 
+    @Override
+    public boolean isThreadSafe() {
+      return false; // Swaps the item in the viewer's inventory
+    }
+
     @Override
     public boolean isSupported() {
       return super.isSupported()
@@ -937,7 +1444,7 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     }
   }
 
-  static class FakeEntity<E extends Entity> extends PacketFacet<Player> implements Facet.FakeEntity<Player, Location>, Listener {
+  static class FakeEntity<E extends Entity> extends PacketFacet<Player> implements Facet.FakeEntity<Player, Location> {
     private static final Class<? extends World> CLASS_CRAFT_WORLD = findCraftClass("CraftWorld", World.class);
     private static final Class<?> CLASS_NMS_LIVING_ENTITY = findNmsClass("EntityLiving");
     private static final Class<?> CLASS_DATA_WATCHER = findNmsClass("DataWatcher");
@@ -969,6 +1476,7 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
 
     private final E entity;
     private final Object entityHandle;
+    private final @Nullable FakeEntityTracker tracker;
     protected final Set<Player> viewers;
 
     protected FakeEntity(final @NotNull Class<E> entityClass, final @NotNull Location location) {
@@ -1000,10 +1508,12 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       this.entity = entity;
       this.entityHandle = handle;
       this.viewers = new HashSet<>();
+      this.tracker = this.isSupported() ? FakeEntityTracker.get(plugin) : null;
+    }
 
-      if(this.isSupported()) {
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
-      }
+    @Override
+    public boolean isThreadSafe() {
+      return false; // Creates and moves an entity in the world
     }
 
     @Override
@@ -1011,14 +1521,6 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       return super.isSupported() && this.entity != null && this.entityHandle != null;
     }
 
-    @EventHandler(ignoreCancelled = false, priority = EventPriority.MONITOR)
-    public void onPlayerMove(final PlayerMoveEvent event) {
-      final Player viewer = event.getPlayer();
-      if(this.viewers.contains(viewer)) {
-        this.teleport(viewer, this.createPosition(viewer));
-      }
-    }
-
     public @Nullable Object createSpawnPacket() {
       // Later versions of MC add a createSpawnPacket()Packet method on Entity -- for broader support that could be used.
       // For 1.8 and 1.7 at least, we are stuck with this.
@@ -1082,13 +1584,18 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     public void teleport(final @NotNull Player viewer, final @Nullable Location position) {
       if(position == null) {
         this.viewers.remove(viewer);
+        if(this.tracker != null) this.tracker.untrack(viewer, this);
         this.sendPacket(viewer, this.createDespawnPacket());
         return;
       }
 
+      final Object spawnPacket;
       if(!this.viewers.contains(viewer)) {
-        this.sendPacket(viewer, this.createSpawnPacket());
+        spawnPacket = this.createSpawnPacket();
         this.viewers.add(viewer);
+        if(this.tracker != null) this.tracker.track(viewer, this);
+      } else {
+        spawnPacket = null;
       }
 
       try {
@@ -1096,7 +1603,13 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       } catch(final Throwable error) {
         logError(error, "Failed to set entity location: %s %s", this.entity, position);
       }
-      this.sendPacket(viewer, this.createLocationPacket());
+
+      if(spawnPacket != null) {
+        // Spawning happens once per viewer, so send both packets together
+        this.sendPackets(viewer, Arrays.asList(spawnPacket, this.createLocationPacket()));
+      } else {
+        this.sendPacket(viewer, this.createLocationPacket());
+      }
     }
 
     @Override
@@ -1142,13 +1655,101 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
 
     @Override
     public void close() {
-      HandlerList.unregisterAll(this);
       for(final Player viewer : new LinkedList<>(this.viewers)) {
         this.teleport(viewer, null);
       }
     }
   }
 
+  /**
+   * Moves fake entities with their viewers, using one listener per plugin.
+   *
+   * <p>Entities are moved when their viewer moves or turns past a threshold, at most once per tick.</p>
+   */
+  static final class FakeEntityTracker implements Listener {
+    private static final Map<Plugin, FakeEntityTracker> TRACKERS = new ConcurrentHashMap<>();
+    private static final double MOVE_THRESHOLD_SQUARED = 0.5 * 0.5;
+    private static final float ROTATE_THRESHOLD = 5f; // Entities are placed far in front of the viewer, so small turns matter
+    private static final long MOVE_INTERVAL = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final Plugin plugin;
+    private final Map<UUID, Tracked> viewers = new ConcurrentHashMap<>();
+
+    private FakeEntityTracker(final @NotNull Plugin plugin) {
+      this.plugin = plugin;
+    }
+
+    static @NotNull FakeEntityTracker get(final @NotNull Plugin plugin) {
+      return TRACKERS.computeIfAbsent(plugin, key -> {
+        final FakeEntityTracker tracker = new FakeEntityTracker(key);
+        key.getServer().getPluginManager().registerEvents(tracker, key);
+        return tracker;
+      });
+    }
+
+    void track(final @NotNull Player viewer, final @NotNull FakeEntity<?> entity) {
+      this.viewers.computeIfAbsent(viewer.getUniqueId(), id -> new Tracked(viewer.getLocation())).entities.add(entity);
+    }
+
+    void untrack(final @NotNull Player viewer, final @NotNull FakeEntity<?> entity) {
+      this.viewers.computeIfPresent(viewer.getUniqueId(), (id, tracked) -> {
+        tracked.entities.remove(entity);
+        return tracked.entities.isEmpty() ? null : tracked;
+      });
+    }
+
+    @EventHandler(ignoreCancelled = false, priority = EventPriority.MONITOR)
+    public void onPlayerMove(final PlayerMoveEvent event) {
+      final Player viewer = event.getPlayer();
+      final Tracked tracked = this.viewers.get(viewer.getUniqueId());
+      if(tracked == null) return;
+
+      final Location to = event.getTo();
+      if(to == null) return;
+
+      final long now = System.nanoTime();
+      if(!(event instanceof PlayerTeleportEvent) && !tracked.shouldMove(to, now)) return;
+      tracked.moved(to, now);
+
+      for(final FakeEntity<?> entity : tracked.entities) {
+        if(entity.viewers.contains(viewer)) {
+          entity.teleport(viewer, entity.createPosition(viewer));
+        }
+      }
+    }
+
+    @EventHandler(ignoreCancelled = false, priority = EventPriority.MONITOR)
+    public void onPluginDisable(final PluginDisableEvent event) {
+      if(event.getPlugin() == this.plugin) {
+        HandlerList.unregisterAll(this);
+        TRACKERS.remove(this.plugin, this);
+      }
+    }
+
+    static final class Tracked {
+      final Set<FakeEntity<?>> entities = new CopyOnWriteArraySet<>();
+      private Location location;
+      private long time;
+
+      Tracked(final @NotNull Location location) {
+        this.location = location;
+      }
+
+      synchronized boolean shouldMove(final @NotNull Location to, final long now) {
+        if(now - this.time < MOVE_INTERVAL) return false;
+        if(to.getWorld() != this.location.getWorld()) return true;
+        return to.distanceSquared(this.location) >= MOVE_THRESHOLD_SQUARED
+          || Math.abs(to.getYaw() - this.location.getYaw()) >= ROTATE_THRESHOLD
+          || Math.abs(to.getPitch() - this.location.getPitch()) >= ROTATE_THRESHOLD;
+      }
+
+      synchronized void moved(final @NotNull Location to, final long now) {
+        this.location = to.clone();
+        this.time = now;
+      }
+    }
+  }
+
   static final class BossBarWither extends FakeEntity<Wither> implements Facet.BossBarEntity<Player, Location> {
     public static class Builder extends CraftBukkitFacet<Player> implements Facet.BossBar.Builder<Player, BossBarWither> {
       protected Builder() {
@@ -1222,6 +1823,11 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       return null;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+      return false; // Reads and writes the header and footer of the CraftPlayer
+    }
+
     @Override
     public boolean isSupported() {
       return (CLIENTBOUND_TAB_LIST_PACKET_CTOR != null || CLIENTBOUND_TAB_LIST_PACKET_CTOR_PRE_1_17 != null) && CLIENTBOUND_TAB_LIST_PACKET_SET_HEADER != null && CLIENTBOUND_TAB_LIST_PACKET_SET_FOOTER != null && super.isSupported();
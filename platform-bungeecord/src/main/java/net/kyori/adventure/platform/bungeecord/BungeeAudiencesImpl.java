@@ -27,15 +27,20 @@ import com.google.gson.Gson;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.platform.facet.FacetAudienceProvider;
+import net.kyori.adventure.platform.facet.FacetScheduler;
 import net.kyori.adventure.platform.facet.Knob;
 import net.kyori.adventure.text.serializer.bungeecord.BungeeComponentSerializer;
 import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.ProxyServer;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
+import net.md_5.bungee.api.connection.Server;
 import net.md_5.bungee.api.event.PlayerDisconnectEvent;
 import net.md_5.bungee.api.event.PostLoginEvent;
+import net.md_5.bungee.api.event.ServerConnectedEvent;
+import net.md_5.bungee.api.event.ServerSwitchEvent;
 import net.md_5.bungee.api.event.SettingsChangedEvent;
 import net.md_5.bungee.api.plugin.Plugin;
+import net.md_5.bungee.api.scheduler.ScheduledTask;
 import net.md_5.bungee.event.EventHandler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -47,6 +52,7 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import static java.util.Objects.requireNonNull;
@@ -83,6 +89,7 @@ final class BungeeAudiencesImpl extends FacetAudienceProvider<CommandSender, Bun
 
   BungeeAudiencesImpl(final Plugin plugin) {
     this.plugin = requireNonNull(plugin, "plugin");
+    this.scheduler(new Scheduler(plugin));
     this.listener = new Listener();
     this.plugin.getProxy().getPluginManager().registerListener(this.plugin, this.listener);
 
@@ -143,6 +150,17 @@ final class BungeeAudiencesImpl extends FacetAudienceProvider<CommandSender, Bun
     return false;
   }
 
+  @Override
+  protected @Nullable String findServer(final @NotNull CommandSender viewer) {
+    if(viewer instanceof ProxiedPlayer) {
+      final Server server = ((ProxiedPlayer) viewer).getServer();
+      if(server != null) {
+        return server.getInfo().getName();
+      }
+    }
+    return null;
+  }
+
   @NotNull
   @Override
   protected BungeeAudience createAudience(final @NotNull Collection<CommandSender> viewers) {
@@ -166,9 +184,63 @@ final class BungeeAudiencesImpl extends FacetAudienceProvider<CommandSender, Bun
       BungeeAudiencesImpl.this.removeViewer(event.getPlayer());
     }
 
+    @EventHandler(priority = Byte.MAX_VALUE /* after EventPriority.HIGHEST */)
+    public void onServerConnected(final ServerConnectedEvent event) {
+      BungeeAudiencesImpl.this.changeServer(event.getPlayer(), event.getServer().getInfo().getName());
+    }
+
+    @EventHandler(priority = Byte.MAX_VALUE /* after EventPriority.HIGHEST */)
+    public void onServerSwitch(final ServerSwitchEvent event) {
+      final Server server = event.getPlayer().getServer();
+      if(server != null) {
+        BungeeAudiencesImpl.this.changeServer(event.getPlayer(), server.getInfo().getName());
+      }
+    }
+
     @EventHandler(priority = Byte.MAX_VALUE /* after EventPriority.HIGHEST */)
     public void onSettingsChanged(final SettingsChangedEvent event) {
       BungeeAudiencesImpl.this.changeViewer(event.getPlayer(), event.getPlayer().getLocale());
     }
   }
+
+  /**
+   * A scheduler that runs tasks on the proxy's scheduler.
+   */
+  private static final class Scheduler implements FacetScheduler {
+    private final Plugin plugin;
+
+    Scheduler(final @NotNull Plugin plugin) {
+      this.plugin = plugin;
+    }
+
+    @Override
+    public @NotNull Task schedule(final @NotNull Runnable task, final long delay, final @NotNull TimeUnit unit) {
+      return new Scheduled(this.plugin.getProxy().getScheduler().schedule(this.plugin, task, delay, unit));
+    }
+
+    @Override
+    public @NotNull Task repeat(final @NotNull Runnable task, final long period, final @NotNull TimeUnit unit) {
+      return new Scheduled(this.plugin.getProxy().getScheduler().schedule(this.plugin, task, period, period, unit));
+    }
+  }
+
+  private static final class Scheduled implements FacetScheduler.Task {
+    private final ScheduledTask task;
+    private volatile boolean cancelled;
+
+    Scheduled(final @NotNull ScheduledTask task) {
+      this.task = task;
+    }
+
+    @Override
+    public void cancel() {
+      this.cancelled = true;
+      this.task.cancel();
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return this.cancelled;
+    }
+  }
 }
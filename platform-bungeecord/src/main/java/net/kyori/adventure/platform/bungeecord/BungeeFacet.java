@@ -27,6 +27,7 @@ import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.platform.facet.Facet;
 import net.kyori.adventure.platform.facet.FacetBase;
+import net.kyori.adventure.platform.facet.FacetViewerSet;
 import net.kyori.adventure.text.Component;
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.CommandSender;
@@ -41,7 +42,6 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Collection;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CopyOnWriteArraySet;
 
 import static net.kyori.adventure.platform.facet.Knob.logUnsupported;
 import static net.kyori.adventure.text.serializer.bungeecord.BungeeComponentSerializer.legacy;
@@ -88,6 +88,11 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
         return legacy().serialize(message);
       }
     }
+
+    @Override
+    public int protocolBucket(final @NotNull ProxiedPlayer viewer) {
+      return viewer.getPendingConnection().getVersion() >= PROTOCOL_HEX_COLOR ? PROTOCOL_HEX_COLOR : PROTOCOL_JSON;
+    }
   }
 
   static class ChatPlayer extends Message implements Facet.Chat<ProxiedPlayer, BaseComponent[]> {
@@ -157,7 +162,7 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
 
     protected BossBar(final @NotNull Collection<ProxiedPlayer> viewers) {
       super();
-      this.viewers = new CopyOnWriteArraySet<>(viewers);
+      this.viewers = new FacetViewerSet<>(viewers);
       this.bar = new net.md_5.bungee.protocol.packet.BossBar(UUID.randomUUID(), ACTION_ADD);
     }
 
@@ -134,6 +134,19 @@ public interface Facet<V> {
     return true;
   }
 
+  /**
+   * Gets whether this handler can be used from any thread.
+   *
+   * <p>Handlers that only write packets usually are, while handlers that call platform API are not.
+   * Audiences that send asynchronously use other handlers on their platform's scheduler.</p>
+   *
+   * @return if this handler is thread-safe
+   * @since 4.0.0
+   */
+  default boolean isThreadSafe() {
+    return false;
+  }
+
   /**
    * A facet that converts components between formats.
    *
@@ -156,6 +169,20 @@ public interface Facet<V> {
      * @since 4.0.0
      */
     @Nullable M createMessage(final @NotNull V viewer, final @NotNull Component message);
+
+    /**
+     * Gets the protocol bucket of a viewer.
+     *
+     * <p>Viewers in the same bucket must receive identical messages from {@link #createMessage(Object, Component)},
+     * which allows a message to be created once and shared between them.</p>
+     *
+     * @param viewer a viewer
+     * @return a protocol bucket
+     * @since 4.0.0
+     */
+    default int protocolBucket(final @NotNull V viewer) {
+      return 0;
+    }
   }
 
   /**
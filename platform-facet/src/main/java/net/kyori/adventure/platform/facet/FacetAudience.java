@@ -37,6 +37,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
@@ -45,7 +47,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
@@ -59,7 +62,9 @@ import static java.util.Objects.requireNonNull;
  * @since 4.0.0
  */
 public class FacetAudience<V> implements Audience, Closeable {
-  private final @NotNull Set<V> viewers;
+  private static final long ACTION_BAR_INTERVAL = Knob.getInteger("actionBarInterval", 2000);
+
+  private final @NotNull FacetViewerSet<V> viewers;
   private volatile @Nullable V viewer; // The first viewer is used for facet and message selection
   private volatile @NotNull Locale locale;
 
@@ -72,6 +77,9 @@ public class FacetAudience<V> implements Audience, Closeable {
   private final Facet.BossBar.@Nullable Builder<V, Facet.BossBar<V>> bossBar;
   private final @Nullable Map<BossBar, Facet.BossBar<V>> bossBars;
   private final Facet.@Nullable TabList<V, Object> tabList;
+  private volatile @Nullable FacetAudienceProvider<V, ?> provider;
+  private volatile @Nullable FacetExecutor executor;
+  private @Nullable PersistentActionBar persistentActionBar; // guarded by this
 
   /**
    * Create a new facet-based audience.
@@ -99,7 +107,7 @@ public class FacetAudience<V> implements Audience, Closeable {
     final @Nullable Collection<? extends Facet.BossBar.Builder> bossBar,
     final @Nullable Collection<? extends Facet.TabList> tabList
   ) {
-    this.viewers = new CopyOnWriteArraySet<>();
+    this.viewers = new FacetViewerSet<>();
     this.locale = locale == null ? Locale.US : locale;
     for(final V viewer : requireNonNull(viewers, "viewers")) {
       this.addViewer(viewer);
@@ -122,8 +130,10 @@ public class FacetAudience<V> implements Audience, Closeable {
    * @since 4.0.0
    */
   public void addViewer(final @NotNull V viewer) {
-    if(this.viewers.add(viewer) && this.viewer == null) {
-      this.viewer = viewer;
+    if(this.viewers.add(viewer)) {
+      if(this.viewer == null) {
+        this.viewer = viewer;
+      }
     }
   }
 
@@ -135,15 +145,28 @@ public class FacetAudience<V> implements Audience, Closeable {
    */
   public void removeViewer(final @NotNull V viewer) {
     if(this.viewers.remove(viewer) && this.viewer == viewer) {
-      this.viewer = this.viewers.isEmpty() ? null : this.viewers.iterator().next();
+      this.viewer = this.viewers.first();
     }
 
     if(this.bossBars == null) return;
-    for(final Facet.BossBar<V> listener : this.bossBars.values()) {
+    final List<Facet.BossBar<V>> listeners;
+    synchronized(this.bossBars) { // Boss bars may be shown or hidden on other threads
+      listeners = new ArrayList<>(this.bossBars.values());
+    }
+    for(final Facet.BossBar<V> listener : listeners) {
       listener.removeViewer(viewer);
     }
   }
 
+  /**
+   * Attaches this audience to the provider that manages it.
+   *
+   * @param provider a provider
+   */
+  void attach(final @NotNull FacetAudienceProvider<V, ?> provider) {
+    this.provider = provider;
+  }
+
   /**
    * Changes the locale.
    *
@@ -156,25 +179,92 @@ public class FacetAudience<V> implements Audience, Closeable {
 
   @Override
   public void sendMessage(final @NotNull Identity source, final @NotNull Component original, final @NotNull MessageType type) {
+    this.sendMessage(source, original, type, null);
+  }
+
+  void sendMessage(final @NotNull Identity source, final @NotNull Component original, final @NotNull MessageType type, final @Nullable FacetBroadcast broadcast) {
     if(this.chat == null) return;
 
-    final Object message = this.createMessage(original, this.chat);
-    if(message == null) return;
+    this.execute(this.chat, () -> {
+      final FacetBroadcast buckets = this.buckets(broadcast);
+      for(final V viewer : this.viewers) {
+        final Object message = this.createMessage(viewer, original, this.chat, buckets);
+        if(message == null) continue;
 
-    for(final V viewer : this.viewers) {
-      this.chat.sendMessage(viewer, source, message, type);
-    }
+        this.chat.sendMessage(viewer, source, message, type);
+      }
+    });
   }
 
   @Override
   public void sendActionBar(final @NotNull Component original) {
+    this.sendActionBar(original, null);
+  }
+
+  void sendActionBar(final @NotNull Component original, final @Nullable FacetBroadcast broadcast) {
     if(this.actionBar == null) return;
+    this.cancelActionBar();
 
-    final Object message = this.createMessage(original, this.actionBar);
-    if(message == null) return;
+    this.execute(this.actionBar, () -> {
+      final FacetBroadcast buckets = this.buckets(broadcast);
+      for(final V viewer : this.viewers) {
+        final Object message = this.createMessage(viewer, original, this.actionBar, buckets);
+        if(message == null) continue;
 
-    for(final V viewer : this.viewers) {
-      this.actionBar.sendMessage(viewer, message);
+        this.actionBar.sendMessage(viewer, message);
+      }
+    });
+  }
+
+  /**
+   * Shows an action bar for a duration.
+   *
+   * <p>Clients hide an action bar after a few seconds, so it is sent again every two seconds until
+   * the duration has passed, reusing the same message. Showing an equal action bar again only
+   * extends the duration. Sending any other action bar replaces it.</p>
+   *
+   * @param original an action bar
+   * @param duration how long to show the action bar
+   * @since 4.0.0
+   */
+  public void showActionBar(final @NotNull Component original, final @NotNull Duration duration) {
+    this.showActionBar(original, duration, null);
+  }
+
+  void showActionBar(final @NotNull Component original, final @NotNull Duration duration, final @Nullable FacetBroadcast broadcast) {
+    if(this.actionBar == null) return;
+
+    final long expiresAt = System.nanoTime() + duration.toNanos();
+    synchronized(this) {
+      final PersistentActionBar current = this.persistentActionBar;
+      if(current != null && current.original.equals(original)) {
+        current.expiresAt = expiresAt;
+        return;
+      }
+      if(current != null) {
+        current.task.cancel();
+      }
+
+      final PersistentActionBar bar = new PersistentActionBar(original, expiresAt, broadcast == null ? new FacetBroadcast() : broadcast);
+      final FacetAudienceProvider<V, ?> provider = this.provider;
+      if(provider == null) { // Nothing to repeat it with, so the action bar is only sent once
+        this.persistentActionBar = null;
+        this.execute(this.actionBar, bar::send);
+        return;
+      }
+
+      this.persistentActionBar = bar;
+      this.execute(this.actionBar, bar::send);
+      bar.task = provider.scheduler().repeat(bar, ACTION_BAR_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void cancelActionBar() {
+    synchronized(this) {
+      if(this.persistentActionBar != null) {
+        this.persistentActionBar.task.cancel();
+        this.persistentActionBar = null;
+      }
     }
   }
 
@@ -182,139 +272,155 @@ public class FacetAudience<V> implements Audience, Closeable {
   public void playSound(final net.kyori.adventure.sound.@NotNull Sound original) {
     if(this.sound == null) return;
 
-    for(final V viewer : this.viewers) {
-      final Object position = this.sound.createPosition(viewer);
-      if(position == null) continue;
+    this.execute(this.sound, () -> {
+      for(final V viewer : this.viewers) {
+        final Object position = this.sound.createPosition(viewer);
+        if(position == null) continue;
 
-      this.sound.playSound(viewer, original, position);
-    }
+        this.sound.playSound(viewer, original, position);
+      }
+    });
   }
 
   @Override
   public void playSound(final @NotNull Sound sound, final Sound.@NotNull Emitter emitter) {
     if(this.entitySound == null) return;
-    if(emitter == Sound.Emitter.self()) {
-      for(final V viewer : this.viewers) {
-        final Object message = this.entitySound.createForSelf(viewer, sound);
-        if(message == null) continue;
-        this.entitySound.playSound(viewer, message);
-      }
 
-    } else {
-      final Object message = this.entitySound.createForEmitter(sound, emitter);
-      if(message == null) return;
-      for(final V viewer : this.viewers) {
-        this.entitySound.playSound(viewer, message);
+    this.execute(this.entitySound, () -> {
+      if(emitter == Sound.Emitter.self()) {
+        for(final V viewer : this.viewers) {
+          final Object message = this.entitySound.createForSelf(viewer, sound);
+          if(message == null) continue;
+          this.entitySound.playSound(viewer, message);
+        }
+
+      } else {
+        final Object message = this.entitySound.createForEmitter(sound, emitter);
+        if(message == null) return;
+        for(final V viewer : this.viewers) {
+          this.entitySound.playSound(viewer, message);
+        }
       }
-    }
+    });
   }
 
   @Override
   public void playSound(final net.kyori.adventure.sound.@NotNull Sound original, final double x, final double y, final double z) {
     if(this.sound == null) return;
 
-    final Object position = this.sound.createPosition(x, y, z);
-    for(final V viewer : this.viewers) {
-      this.sound.playSound(viewer, original, position);
-    }
+    this.execute(this.sound, () -> {
+      final Object position = this.sound.createPosition(x, y, z);
+      for(final V viewer : this.viewers) {
+        this.sound.playSound(viewer, original, position);
+      }
+    });
   }
 
   @Override
   public void stopSound(final @NotNull SoundStop original) {
     if(this.sound == null) return;
 
-    for(final V viewer : this.viewers) {
-      this.sound.stopSound(viewer, original);
-    }
+    this.execute(this.sound, () -> {
+      for(final V viewer : this.viewers) {
+        this.sound.stopSound(viewer, original);
+      }
+    });
   }
 
   @Override
   public void openBook(final net.kyori.adventure.inventory.@NotNull Book original) {
-    if(this.book == null) return;
+    this.openBook(original, null);
+  }
 
-    final Object title = this.createMessage(original.title(), this.book);
-    final Object author = this.createMessage(original.author(), this.book);
-    final List<Object> pages = new LinkedList<>();
-    for(final Component originalPage : original.pages()) {
-      final Object page = this.createMessage(originalPage, this.book);
-      if(page != null) {
-        pages.add(page);
-      }
-    }
-    if(title == null || author == null || pages.isEmpty()) return;
+  void openBook(final net.kyori.adventure.inventory.@NotNull Book original, final @Nullable FacetBroadcast broadcast) {
+    if(this.book == null) return;
 
-    final Object book = this.book.createBook(title, author, pages);
-    if(book == null) return;
+    this.execute(this.book, () -> {
+      final FacetBroadcast buckets = this.buckets(broadcast);
+      for(final V viewer : this.viewers) {
+        final Object book = this.createValue(viewer, original, this.book, buckets, () -> this.createBook(viewer, original, buckets));
+        if(book == null) continue;
 
-    for(final V viewer : this.viewers) {
-      this.book.openBook(viewer, book);
-    }
+        this.book.openBook(viewer, book);
+      }
+    });
   }
 
   @Override
   public void showTitle(final net.kyori.adventure.title.@NotNull Title original) {
-    if(this.title == null) return;
+    this.showTitle(original, null);
+  }
 
-    final Object mainTitle = this.createMessage(original.title(), this.title);
-    final Object subTitle = this.createMessage(original.subtitle(), this.title);
-    final Title.@Nullable Times times = original.times();
-    final int inTicks = times == null ? -1 : this.title.toTicks(times.fadeIn());
-    final int stayTicks = times == null ? -1 : this.title.toTicks(times.stay());
-    final int outTicks = times == null ? -1 : this.title.toTicks(times.fadeOut());
+  void showTitle(final net.kyori.adventure.title.@NotNull Title original, final @Nullable FacetBroadcast broadcast) {
+    if(this.title == null) return;
 
-    final Object title = this.title.createTitle(mainTitle, subTitle, inTicks, stayTicks, outTicks);
-    if(title == null) return;
+    this.execute(this.title, () -> {
+      final FacetBroadcast buckets = this.buckets(broadcast);
+      for(final V viewer : this.viewers) {
+        final Object title = this.createValue(viewer, original, this.title, buckets, () -> this.createTitle(viewer, original, buckets));
+        if(title == null) continue;
 
-    for(final V viewer : this.viewers) {
-      this.title.showTitle(viewer, title);
-    }
+        this.title.showTitle(viewer, title);
+      }
+    });
   }
 
   @Override
   public void clearTitle() {
     if(this.title == null) return;
 
-    for(final V viewer : this.viewers) {
-      this.title.clearTitle(viewer);
-    }
+    this.execute(this.title, () -> {
+      for(final V viewer : this.viewers) {
+        this.title.clearTitle(viewer);
+      }
+    });
   }
 
   @Override
   public void resetTitle() {
     if(this.title == null) return;
 
-    for(final V viewer : this.viewers) {
-      this.title.resetTitle(viewer);
-    }
+    this.execute(this.title, () -> {
+      for(final V viewer : this.viewers) {
+        this.title.resetTitle(viewer);
+      }
+    });
   }
 
   @Override
   public void showBossBar(final @NotNull BossBar bar) {
     if(this.bossBars == null) return;
 
-    Facet.BossBar<V> listener;
-    synchronized(this.bossBars) {
-      listener = this.bossBars.get(bar);
-      if(listener == null) {
-        listener = new FacetBossBarListener<>(this.bossBar.createBossBar(this.viewers), () -> this.locale);
-        this.bossBars.put(bar, listener);
+    this.execute(this.bossBar, () -> {
+      Facet.BossBar<V> listener;
+      synchronized(this.bossBars) {
+        listener = this.bossBars.get(bar);
+        if(listener == null) {
+          final FacetAudienceProvider<V, ?> provider = this.provider;
+          listener = new FacetBossBarListener<>(this.bossBar.createBossBar(this.viewers), name -> this.render(name, this.locale), provider == null ? null : provider.scheduler());
+          this.bossBars.put(bar, listener);
+        }
       }
-    }
 
-    if(listener.isEmpty()) {
-      listener.bossBarInitialized(bar);
-      bar.addListener(listener);
-    }
+      if(listener.isEmpty()) {
+        listener.bossBarInitialized(bar);
+        bar.addListener(listener);
+      }
 
-    for(final V viewer : this.viewers) {
-      listener.addViewer(viewer);
-    }
+      for(final V viewer : this.viewers) {
+        listener.addViewer(viewer);
+      }
+    });
   }
 
   @Override
   public void hideBossBar(final @NotNull BossBar bar) {
     if(this.bossBars == null) return;
 
+    this.execute(this.bossBar, () -> this.detachBossBar(bar));
+  }
+
+  private void detachBossBar(final @NotNull BossBar bar) {
     final Facet.BossBar<V> listener = this.bossBars.get(bar);
     if(listener == null) return;
 
@@ -330,46 +436,93 @@ public class FacetAudience<V> implements Audience, Closeable {
 
   @Override
   public void sendPlayerListHeader(final @NotNull Component header) {
-    if(this.tabList != null) {
-      final Object headerFormatted = this.createMessage(header, this.tabList);
-      if(headerFormatted == null) return;
-      for(final V viewer : this.viewers) {
-        this.tabList.send(viewer, headerFormatted, null);
-      }
-    }
+    this.sendPlayerListHeader(header, null);
+  }
+
+  void sendPlayerListHeader(final @NotNull Component header, final @Nullable FacetBroadcast broadcast) {
+    this.sendPlayerList(header, null, broadcast);
   }
 
   @Override
   public void sendPlayerListFooter(final @NotNull Component footer) {
-    if(this.tabList != null) {
-      final Object footerFormatted = this.createMessage(footer, this.tabList);
-      if(footerFormatted == null) return;
-      for(final V viewer : this.viewers) {
-        this.tabList.send(viewer, null, footerFormatted);
-      }
-    }
+    this.sendPlayerListFooter(footer, null);
+  }
+
+  void sendPlayerListFooter(final @NotNull Component footer, final @Nullable FacetBroadcast broadcast) {
+    this.sendPlayerList(null, footer, broadcast);
   }
 
   @Override
   public void sendPlayerListHeaderAndFooter(final @NotNull Component header, final @NotNull Component footer) {
-    if(this.tabList != null) {
-      final Object headerFormatted = this.createMessage(header, this.tabList);
-      final Object footerFormatted = this.createMessage(footer, this.tabList);
-      if(headerFormatted == null || footerFormatted == null) return;
+    this.sendPlayerListHeaderAndFooter(header, footer, null);
+  }
 
+  void sendPlayerListHeaderAndFooter(final @NotNull Component header, final @NotNull Component footer, final @Nullable FacetBroadcast broadcast) {
+    this.sendPlayerList(header, footer, broadcast);
+  }
+
+  private void sendPlayerList(final @Nullable Component header, final @Nullable Component footer, final @Nullable FacetBroadcast broadcast) {
+    if(this.tabList == null) return;
+
+    this.execute(this.tabList, () -> {
+      final FacetBroadcast buckets = this.buckets(broadcast);
+      final FacetAudienceProvider<V, ?> provider = this.provider;
+      final Locale locale = this.locale;
       for(final V viewer : this.viewers) {
-        this.tabList.send(viewer, headerFormatted, footerFormatted);
+        final TabListState state = provider == null ? null : provider.tabListState(viewer);
+        if(state == null) {
+          final Object headerFormatted = header == null ? null : this.createMessage(viewer, header, this.tabList, buckets);
+          final Object footerFormatted = footer == null ? null : this.createMessage(viewer, footer, this.tabList, buckets);
+          if((header != null && headerFormatted == null) || (footer != null && footerFormatted == null)) continue;
+
+          this.tabList.send(viewer, headerFormatted, footerFormatted);
+          continue;
+        }
+
+        // Rendered once for each locale in the broadcast, then compared with what this viewer last saw
+        final Component headerRendered = header == null ? null : this.render(header, locale, buckets);
+        final Component footerRendered = footer == null ? null : this.render(footer, locale, buckets);
+        synchronized(state) {
+          final boolean headerChanged = headerRendered != null && !headerRendered.equals(state.header);
+          final boolean footerChanged = footerRendered != null && !footerRendered.equals(state.footer);
+          if(!headerChanged && !footerChanged) {
+            provider.suppressTabList();
+            continue;
+          }
+
+          // Only send the parts that changed, the other is left unchanged
+          final Object headerFormatted = headerChanged ? this.createMessage(viewer, header, headerRendered, this.tabList, buckets) : null;
+          final Object footerFormatted = footerChanged ? this.createMessage(viewer, footer, footerRendered, this.tabList, buckets) : null;
+          if((headerChanged && headerFormatted == null) || (footerChanged && footerFormatted == null)) continue;
+
+          this.tabList.send(viewer, headerFormatted, footerFormatted);
+          if(headerChanged) {
+            state.header = headerRendered;
+          }
+          if(footerChanged) {
+            state.footer = footerRendered;
+          }
+        }
       }
-    }
+    });
   }
 
   @Override
   public void close() {
+    this.cancelActionBar();
+
     if(this.bossBars != null) {
-      for(final BossBar bar : new HashSet<>(this.bossBars.keySet())) {
-        this.hideBossBar(bar);
-      }
-      this.bossBars.clear();
+      // After any boss bar that is still being shown
+      this.execute(this.bossBar, () -> {
+        final Set<BossBar> bars;
+        synchronized(this.bossBars) {
+          bars = new HashSet<>(this.bossBars.keySet());
+        }
+        for(final BossBar bar : bars) {
+          this.detachBossBar(bar);
+        }
+        this.bossBars.clear();
+      });
     }
 
     for(final V viewer : this.viewers) {
@@ -378,9 +531,153 @@ public class FacetAudience<V> implements Audience, Closeable {
     this.viewers.clear();
   }
 
-  private @Nullable Object createMessage(final @NotNull Component original, final Facet.@NotNull Message<V, Object> facet) {
-    final Component message = GlobalTranslator.render(original, this.locale);
-    final V viewer = this.viewer;
-    return viewer == null ? null : facet.createMessage(viewer, message);
+  private void execute(final @NotNull Facet<?> facet, final @NotNull Runnable task) {
+    final FacetAudienceProvider<V, ?> provider = this.provider;
+    if(provider == null || !provider.isAsync()) {
+      task.run();
+      return;
+    }
+
+    FacetExecutor executor = this.executor;
+    if(executor == null) {
+      synchronized(this) {
+        executor = this.executor;
+        if(executor == null) {
+          this.executor = executor = new FacetExecutor();
+        }
+      }
+    }
+    // Every task goes through the executor, so each viewer receives them in order
+    if(facet.isThreadSafe()) {
+      executor.execute(task);
+    } else {
+      executor.executeOn(provider.scheduler(), task);
+    }
+  }
+
+  /**
+   * Gets the broadcast used to create values for the viewers of this audience.
+   *
+   * <p>Audiences with several viewers create each value once for every protocol bucket,
+   * since their viewers may not all use the same protocol.</p>
+   *
+   * @param broadcast a broadcast, or {@code null} if not part of one
+   * @return a broadcast, or {@code null} if values can be created directly
+   */
+  private @Nullable FacetBroadcast buckets(final @Nullable FacetBroadcast broadcast) {
+    if(broadcast != null || this.viewers.size() < 2) return broadcast;
+    return new FacetBroadcast();
+  }
+
+  private @Nullable Object createBook(final @NotNull V viewer, final net.kyori.adventure.inventory.@NotNull Book original, final @Nullable FacetBroadcast broadcast) {
+    final Object title = this.createMessage(viewer, original.title(), this.book, broadcast);
+    final Object author = this.createMessage(viewer, original.author(), this.book, broadcast);
+    final List<Object> pages = new LinkedList<>();
+    for(final Component originalPage : original.pages()) {
+      final Object page = this.createMessage(viewer, originalPage, this.book, broadcast);
+      if(page != null) {
+        pages.add(page);
+      }
+    }
+    if(title == null || author == null || pages.isEmpty()) return null;
+
+    return this.book.createBook(title, author, pages);
+  }
+
+  private @Nullable Object createTitle(final @NotNull V viewer, final net.kyori.adventure.title.@NotNull Title original, final @Nullable FacetBroadcast broadcast) {
+    final Object mainTitle = this.createMessage(viewer, original.title(), this.title, broadcast);
+    final Object subTitle = this.createMessage(viewer, original.subtitle(), this.title, broadcast);
+    final Title.@Nullable Times times = original.times();
+    final int inTicks = times == null ? -1 : this.title.toTicks(times.fadeIn());
+    final int stayTicks = times == null ? -1 : this.title.toTicks(times.stay());
+    final int outTicks = times == null ? -1 : this.title.toTicks(times.fadeOut());
+
+    return this.title.createTitle(mainTitle, subTitle, inTicks, stayTicks, outTicks);
+  }
+
+  private @Nullable Object createValue(final @NotNull V viewer, final @NotNull Object original, final Facet.@NotNull Message<V, Object> facet, final @Nullable FacetBroadcast broadcast, final @NotNull Supplier<?> factory) {
+    if(broadcast == null) return factory.get();
+    return broadcast.compute(facet, viewer, this.locale, original, factory);
+  }
+
+  private @Nullable Object createMessage(final @NotNull V viewer, final @NotNull Component original, final Facet.@NotNull Message<V, Object> facet, final @Nullable FacetBroadcast broadcast) {
+    final Locale locale = this.locale;
+    if(broadcast == null) return this.createMessage(viewer, this.render(original, locale), facet);
+    return broadcast.compute(facet, viewer, locale, original, () -> this.createMessage(viewer, this.render(original, locale), facet));
+  }
+
+  private @Nullable Object createMessage(final @NotNull V viewer, final @NotNull Component original, final @NotNull Component rendered, final Facet.@NotNull Message<V, Object> facet, final @Nullable FacetBroadcast broadcast) {
+    if(broadcast == null) return this.createMessage(viewer, rendered, facet);
+    return broadcast.compute(facet, viewer, this.locale, original, () -> this.createMessage(viewer, rendered, facet));
+  }
+
+  private @Nullable Object createMessage(final @NotNull V viewer, final @NotNull Component message, final Facet.@NotNull Message<V, Object> facet) {
+    final FacetAudienceProvider<V, ?> provider = this.provider;
+    final FacetMessageCache cache = provider == null ? null : provider.messageCache();
+    return cache == null ? facet.createMessage(viewer, message) : cache.createMessage(facet, viewer, message);
+  }
+
+  private @NotNull Component render(final @NotNull Component original, final @NotNull Locale locale) {
+    final FacetAudienceProvider<V, ?> provider = this.provider;
+    final FacetRenderCache cache = provider == null ? null : provider.renderCache();
+    return cache == null ? GlobalTranslator.render(original, locale) : cache.render(original, locale);
+  }
+
+  private @NotNull Component render(final @NotNull Component original, final @NotNull Locale locale, final @Nullable FacetBroadcast broadcast) {
+    if(broadcast == null) return this.render(original, locale);
+    return broadcast.render(locale, original, () -> this.render(original, locale));
+  }
+
+  /**
+   * An action bar that is sent again until it expires.
+   */
+  private final class PersistentActionBar implements Runnable {
+    private final Component original;
+    private volatile long expiresAt;
+    private volatile FacetScheduler.@Nullable Task task;
+    private final FacetBroadcast messages; // One message for each protocol bucket and locale
+
+    PersistentActionBar(final @NotNull Component original, final long expiresAt, final @NotNull FacetBroadcast messages) {
+      this.original = original;
+      this.expiresAt = expiresAt;
+      this.messages = messages;
+    }
+
+    @Override
+    public void run() {
+      if(System.nanoTime() - this.expiresAt < 0) {
+        FacetAudience.this.execute(FacetAudience.this.actionBar, this::send);
+        return;
+      }
+
+      synchronized(FacetAudience.this) {
+        // Check again, since the action bar may have been extended while expiring
+        if(System.nanoTime() - this.expiresAt < 0) return;
+        this.task.cancel();
+        if(FacetAudience.this.persistentActionBar == this) {
+          FacetAudience.this.persistentActionBar = null;
+        }
+      }
+    }
+
+    synchronized void send() {
+      final FacetScheduler.Task task = this.task;
+      if(task != null && task.isCancelled()) return;
+
+      for(final V viewer : FacetAudience.this.viewers) {
+        final Object message = FacetAudience.this.createMessage(viewer, this.original, FacetAudience.this.actionBar, this.messages);
+        if(message == null) continue;
+
+        FacetAudience.this.actionBar.sendMessage(viewer, message);
+      }
+    }
+  }
+
+  /**
+   * The tab list last sent to a viewer.
+   */
+  static final class TabListState {
+    private @Nullable Component header; // Guarded by this
+    private @Nullable Component footer; // Guarded by this
   }
 }
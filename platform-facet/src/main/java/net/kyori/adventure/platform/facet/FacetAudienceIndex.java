@@ -0,0 +1,108 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of audiences, partitioned by a key that each viewer has at most one of.
+ *
+ * <p>The platform moves viewers between partitions when their key changes, so iterating
+ * a partition only visits its members.</p>
+ *
+ * @param <K> a key type
+ * @param <V> a viewer type
+ * @param <A> an audience type
+ */
+final class FacetAudienceIndex<K, V, A extends FacetAudience<V>> {
+  private final Map<K, Map<V, A>> partitions;
+  private final Map<V, K> keys;
+  private volatile boolean used;
+
+  FacetAudienceIndex() {
+    this.partitions = new ConcurrentHashMap<>();
+    this.keys = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Gets whether the platform has put any viewer in a partition.
+   *
+   * <p>If not, the platform does not support this index, and viewers should be filtered instead.</p>
+   *
+   * @return if the index is used
+   */
+  boolean isUsed() {
+    return this.used;
+  }
+
+  /**
+   * Gets a live view of the audiences in a partition.
+   *
+   * @param key a key
+   * @return an iterable of audiences
+   */
+  @NotNull Iterable<A> audiences(final @NotNull K key) {
+    return () -> {
+      final Map<V, A> partition = this.partitions.get(key);
+      return partition == null ? Collections.emptyIterator() : partition.values().iterator();
+    };
+  }
+
+  /**
+   * Moves a viewer to a partition.
+   *
+   * @param viewer a viewer
+   * @param audience the viewer's audience
+   * @param key a key, or {@code null} to only remove the viewer
+   */
+  synchronized void put(final @NotNull V viewer, final @NotNull A audience, final @Nullable K key) {
+    this.remove(viewer);
+    if(key == null) return;
+    this.used = true;
+    this.keys.put(viewer, key);
+    this.partitions.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(viewer, audience);
+  }
+
+  /**
+   * Removes a viewer from its partition.
+   *
+   * @param viewer a viewer
+   */
+  synchronized void remove(final @NotNull V viewer) {
+    final K key = this.keys.remove(viewer);
+    if(key == null) return;
+    final Map<V, A> partition = this.partitions.get(key);
+    if(partition != null) {
+      partition.remove(viewer);
+      if(partition.isEmpty()) {
+        this.partitions.remove(key);
+      }
+    }
+  }
+}
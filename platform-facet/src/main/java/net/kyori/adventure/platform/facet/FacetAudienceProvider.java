@@ -27,9 +27,11 @@ import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.platform.AudienceProvider;
+import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -40,6 +42,8 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -54,12 +58,23 @@ import static java.util.Objects.requireNonNull;
  * @since 4.0.0
  */
 public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> implements AudienceProvider, ForwardingAudience {
+  private final Audience all;
   private final Audience console;
   private final Audience player;
   private final Map<V, A> viewers;
   private final Map<UUID, A> players;
   private final Set<A> consoles;
   private final A empty;
+  private final @Nullable FacetRenderCache renderCache;
+  private final @Nullable FacetMessageCache messageCache;
+  private final @Nullable FacetPermissionIndex<V, A> permissions;
+  private final @Nullable FacetAudienceIndex<String, V, A> worlds;
+  private final @Nullable FacetAudienceIndex<String, V, A> servers;
+  private final @Nullable Map<V, FacetAudience.TabListState> tabLists;
+  private final AtomicLong suppressedTabLists;
+  private volatile boolean async;
+  private volatile @Nullable FacetScheduler scheduler;
+  private @Nullable FacetThreadScheduler threadScheduler; // Guarded by this
   private volatile boolean closed;
 
   /**
@@ -71,9 +86,20 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> imple
     this.viewers = new ConcurrentHashMap<>();
     this.players = new ConcurrentHashMap<>();
     this.consoles = new CopyOnWriteArraySet<>();
-    this.console = Audience.audience(this.consoles);
-    this.player = Audience.audience(this.players.values());
+    this.renderCache = Knob.isEnabled("renderCache", false) ? new FacetRenderCache(FacetRenderCache.DEFAULT_MAXIMUM_SIZE) : null;
+    this.messageCache = Knob.isEnabled("messageCache", false) ? new FacetMessageCache(FacetMessageCache.DEFAULT_MAXIMUM_SIZE) : null;
+    this.permissions = Knob.isEnabled("permissionIndex", false)
+      ? new FacetPermissionIndex<>(this.viewers, this::hasPermission, Knob.getInteger("permissionRefreshInterval", 1000), TimeUnit.MILLISECONDS)
+      : null;
+    this.worlds = Knob.isEnabled("worldIndex", true) ? new FacetAudienceIndex<>() : null;
+    this.servers = Knob.isEnabled("serverIndex", true) ? new FacetAudienceIndex<>() : null;
+    this.tabLists = Knob.isEnabled("tabListDiffing", false) ? new ConcurrentHashMap<>() : null;
+    this.suppressedTabLists = new AtomicLong();
+    this.all = new FacetBroadcastAudience<>(this.viewers.values());
+    this.console = new FacetBroadcastAudience<>(this.consoles);
+    this.player = new FacetBroadcastAudience<>(this.players.values());
     this.empty = this.createAudience(Collections.emptyList());
+    this.empty.attach(this);
     this.closed = false;
   }
 
@@ -85,14 +111,29 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> imple
    */
   public void addViewer(final @NotNull V viewer) {
     if(this.closed) return;
-    final A audience = this.viewers.computeIfAbsent(requireNonNull(viewer, "viewer"),
-      v -> this.createAudience(Collections.singletonList(v)));
+    final A audience = this.viewers.computeIfAbsent(requireNonNull(viewer, "viewer"), v -> {
+      final A created = this.createAudience(Collections.singletonList(v));
+      created.attach(this);
+      return created;
+    });
     final UUID playerId = this.hasId(viewer);
     if(playerId != null) {
       this.players.putIfAbsent(playerId, audience);
     } else if(this.isConsole(viewer)) {
       this.consoles.add(audience);
     }
+    if(this.permissions != null) {
+      this.permissions.addViewer(viewer, audience);
+    }
+    if(this.worlds != null) {
+      this.worlds.put(viewer, audience, this.findWorld(viewer));
+    }
+    if(this.servers != null) {
+      this.servers.put(viewer, audience, this.findServer(viewer));
+    }
+    if(this.tabLists != null) {
+      this.tabLists.putIfAbsent(viewer, new FacetAudience.TabListState());
+    }
   }
 
   /**
@@ -104,6 +145,18 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> imple
   public void removeViewer(final @NotNull V viewer) {
     final A audience = this.viewers.remove(viewer);
     if(audience == null) return;
+    if(this.permissions != null) {
+      this.permissions.removeViewer(viewer);
+    }
+    if(this.worlds != null) {
+      this.worlds.remove(viewer);
+    }
+    if(this.servers != null) {
+      this.servers.remove(viewer);
+    }
+    if(this.tabLists != null) {
+      this.tabLists.remove(viewer);
+    }
     final UUID playerId = this.hasId(viewer);
     if(playerId != null) {
       this.players.remove(playerId);
@@ -127,6 +180,166 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> imple
     }
   }
 
+  /**
+   * Changes a viewer's world.
+   *
+   * <p>Platforms that implement {@link #findWorld(Object)} should call this whenever a viewer changes worlds.</p>
+   *
+   * @param viewer a viewer
+   * @param world the name of the world, or {@code null} if not in a world
+   * @since 4.0.0
+   */
+  public void changeWorld(final @NotNull V viewer, final @Nullable String world) {
+    final A audience = this.viewers.get(viewer);
+    if(audience != null && this.worlds != null) {
+      this.worlds.put(viewer, audience, world);
+    }
+  }
+
+  /**
+   * Changes a viewer's server.
+   *
+   * <p>Platforms that implement {@link #findServer(Object)} should call this whenever a viewer changes servers.</p>
+   *
+   * @param viewer a viewer
+   * @param server the name of the server, or {@code null} if not on a server
+   * @since 4.0.0
+   */
+  public void changeServer(final @NotNull V viewer, final @Nullable String server) {
+    final A audience = this.viewers.get(viewer);
+    if(audience != null && this.servers != null) {
+      this.servers.put(viewer, audience, server);
+    }
+  }
+
+  /**
+   * Checks a viewer's permissions again.
+   *
+   * <p>When the permission index is enabled, audiences returned by {@link #permission(String)}
+   * check every viewer's permissions at most once per refresh interval. Call this when a viewer's
+   * permissions are known to have changed, so they are updated immediately.</p>
+   *
+   * @param viewer a viewer
+   * @since 4.0.0
+   */
+  public void changePermissions(final @NotNull V viewer) {
+    if(this.permissions != null) {
+      this.permissions.changeViewer(viewer);
+    }
+  }
+
+  /**
+   * Gets the cache of rendered components, shared by every audience of this provider.
+   *
+   * @return a render cache, or {@code null} if render caching is disabled
+   * @see FacetRenderCache
+   * @since 4.0.0
+   */
+  public @Nullable FacetRenderCache renderCache() {
+    return this.renderCache;
+  }
+
+  /**
+   * Gets the cache of created messages, shared by every audience of this provider.
+   *
+   * @return a message cache, or {@code null} if message caching is disabled
+   * @see FacetMessageCache
+   * @since 4.0.0
+   */
+  public @Nullable FacetMessageCache messageCache() {
+    return this.messageCache;
+  }
+
+  /**
+   * Gets the number of tab list updates that were not sent, because the header and footer had not changed.
+   *
+   * <p>Each viewer remembers the last tab list sent to it, and skips updates with the same rendered
+   * header and footer. Use the JVM flag, {@code -Dnet.kyori.adventure.tabListDiffing=true},
+   * to enable this, unless other plugins also change the tab list.</p>
+   *
+   * @return the number of suppressed tab list updates
+   * @since 4.0.0
+   */
+  public long suppressedTabLists() {
+    return this.suppressedTabLists.get();
+  }
+
+  /**
+   * Gets the tab list last sent to a viewer.
+   *
+   * @param viewer a viewer
+   * @return the tab list state, or {@code null} if tab list updates are not compared for the viewer
+   */
+  FacetAudience.@Nullable TabListState tabListState(final @NotNull V viewer) {
+    return this.tabLists == null ? null : this.tabLists.get(viewer);
+  }
+
+  /**
+   * Records a tab list update that was not sent.
+   */
+  void suppressTabList() {
+    this.suppressedTabLists.incrementAndGet();
+  }
+
+  /**
+   * Sets whether audiences create and send messages off the calling thread.
+   *
+   * <p>When enabled, content is rendered, serialized and sent on a bounded pool of workers by every
+   * {@linkplain Facet#isThreadSafe() thread-safe} facet. Other facets are used on the
+   * {@linkplain #scheduler(FacetScheduler) scheduler} instead, and each audience receives
+   * everything in the order it was sent.</p>
+   *
+   * <p>Until a scheduler is set, there is no thread that other facets could safely be used on,
+   * so messages are still sent on the calling thread.</p>
+   *
+   * @param async if messages should be sent asynchronously
+   * @since 4.0.0
+   */
+  protected final void async(final boolean async) {
+    this.async = async;
+  }
+
+  /**
+   * Gets whether audiences create and send messages off the calling thread.
+   *
+   * @return if messages are sent asynchronously
+   */
+  boolean isAsync() {
+    return this.async && this.scheduler != null; // The fallback thread is not the thread that owns the viewers
+  }
+
+  /**
+   * Sets the scheduler for delayed and repeated work, such as coalesced boss bar updates and persistent action bars.
+   *
+   * <p>Until a scheduler is set, work runs on a daemon thread owned by this provider, which is stopped
+   * once the provider is closed, and messages are never sent asynchronously. Platforms whose API must
+   * be used from one thread should set a scheduler that runs tasks on that thread.</p>
+   *
+   * @param scheduler a scheduler
+   * @since 4.0.0
+   */
+  protected final void scheduler(final @NotNull FacetScheduler scheduler) {
+    this.scheduler = requireNonNull(scheduler, "scheduler");
+  }
+
+  /**
+   * Gets the scheduler for delayed and repeated work.
+   *
+   * @return a scheduler
+   */
+  @NotNull FacetScheduler scheduler() {
+    final FacetScheduler scheduler = this.scheduler;
+    if(scheduler != null) return scheduler;
+
+    synchronized(this) {
+      if(this.threadScheduler == null) {
+        this.threadScheduler = new FacetThreadScheduler();
+        if(this.closed) this.threadScheduler.close();
+      }
+      return this.threadScheduler;
+    }
+  }
+
   /**
    * Gets the {@link UUID} of a viewer, if they are a player.
    *
@@ -170,6 +383,35 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> imple
    */
   protected abstract boolean isOnServer(final @NotNull V viewer, final @NotNull String server);
 
+  /**
+   * Gets the name of the world a viewer is in.
+   *
+   * <p>If implemented, {@link #world(Key)} audiences only visit the viewers whose world name
+   * equals the {@linkplain Key#value() value} of the key, and {@link #changeWorld(Object, String)}
+   * must be called when a viewer changes worlds.</p>
+   *
+   * @param viewer a viewer
+   * @return the name of the world, or {@code null} if not in a world or not supported
+   * @since 4.0.0
+   */
+  protected @Nullable String findWorld(final @NotNull V viewer) {
+    return null;
+  }
+
+  /**
+   * Gets the name of the server a viewer is on.
+   *
+   * <p>If implemented, {@link #server(String)} audiences only visit the viewers on that server,
+   * and {@link #changeServer(Object, String)} must be called when a viewer changes servers.</p>
+   *
+   * @param viewer a viewer
+   * @return the name of the server, or {@code null} if not on a server or not supported
+   * @since 4.0.0
+   */
+  protected @Nullable String findServer(final @NotNull V viewer) {
+    return null;
+  }
+
   /**
    * Creates an audience for a collection of viewers.
    *
@@ -180,12 +422,13 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> imple
 
   @Override
   public @NotNull Iterable<? extends Audience> audiences() {
-    return this.viewers.values();
+    // Sends to the provider itself are broadcast, instead of being created again for each viewer
+    return Collections.singleton(this.all);
   }
 
   @Override
   public @NotNull Audience all() {
-    return this;
+    return this.all;
   }
 
   @Override
@@ -203,29 +446,68 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> imple
     return this.players.getOrDefault(playerId, this.empty);
   }
 
+  @Override
+  public void showActionBar(final @NotNull Audience audience, final @NotNull Component message, final @NotNull Duration duration) {
+    if(audience instanceof FacetAudience<?>) {
+      ((FacetAudience<?>) audience).showActionBar(message, duration);
+    } else if(audience instanceof FacetBroadcastAudience<?>) {
+      ((FacetBroadcastAudience<?>) audience).showActionBar(message, duration);
+    } else if(audience instanceof ForwardingAudience) {
+      for(final Audience child : ((ForwardingAudience) audience).audiences()) {
+        this.showActionBar(child, message, duration);
+      }
+    } else {
+      audience.sendActionBar(message); // Not from this provider, so there is nothing to repeat it with
+    }
+  }
+
   /**
    * Creates an audience based on a viewer predicate.
    *
+   * <p>Messages sent to the audience are rendered and created once for each group of viewers that
+   * share a locale and protocol, instead of once for each viewer.</p>
+   *
    * @param predicate a predicate
    * @return an audience
    * @since 4.0.0
    */
   public @NotNull Audience filter(final @NotNull Predicate<V> predicate) {
-    return Audience.audience(filter(this.viewers.entrySet(), entry -> predicate.test(entry.getKey()), Map.Entry::getValue));
+    return new FacetBroadcastAudience<>(filter(this.viewers.entrySet(), entry -> predicate.test(entry.getKey()), Map.Entry::getValue));
   }
 
+  /**
+   * Gets an audience of the viewers with a permission.
+   *
+   * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.permissionIndex=true}, to index viewers by
+   * permission. Messages are then only sent to viewers that had the permission when it was last checked,
+   * which is at most {@code net.kyori.adventure.permissionRefreshInterval} milliseconds ago. Use
+   * {@link #changePermissions(Object)} to update a viewer before the next check.</p>
+   *
+   * @param permission a permission
+   * @return an audience
+   * @since 4.0.0
+   */
   @Override
   public @NotNull Audience permission(final @NotNull String permission) {
+    if(this.permissions != null) {
+      return new FacetBroadcastAudience<>(this.permissions.audiences(permission));
+    }
     return this.filter(viewer -> this.hasPermission(viewer, permission));
   }
 
   @Override
   public @NotNull Audience world(final @NotNull Key world) {
+    if(this.worlds != null && this.worlds.isUsed()) {
+      return new FacetBroadcastAudience<>(this.worlds.audiences(world.value()));
+    }
     return this.filter(viewer -> this.isInWorld(viewer, world));
   }
 
   @Override
   public @NotNull Audience server(final @NotNull String serverName) {
+    if(this.servers != null && this.servers.isUsed()) {
+      return new FacetBroadcastAudience<>(this.servers.audiences(serverName));
+    }
     return this.filter(viewer -> this.isOnServer(viewer, serverName));
   }
 
@@ -235,6 +517,11 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> imple
     for(final V viewer : this.viewers.keySet()) {
       this.removeViewer(viewer);
     }
+    synchronized(this) {
+      if(this.threadScheduler != null) {
+        this.threadScheduler.close();
+      }
+    }
   }
 
   /**
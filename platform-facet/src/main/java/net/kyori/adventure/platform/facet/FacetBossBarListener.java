@@ -25,53 +25,178 @@ package net.kyori.adventure.platform.facet;
 
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.translation.GlobalTranslator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.Locale;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Set;
-import java.util.function.Supplier;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 
 class FacetBossBarListener<V> implements Facet.BossBar<V> {
+  // When enabled, changes are collected and sent at most once per interval, one tick on most platforms
+  private static final int COALESCE_INTERVAL = Knob.isEnabled("bossBarCoalescing", false) ? Math.max(1, Knob.getInteger("bossBarCoalescingInterval", 50)) : 0;
+  private static final int DIRTY_NAME = 1;
+  private static final int DIRTY_PROGRESS = 1 << 1;
+  private static final int DIRTY_COLOR = 1 << 2;
+  private static final int DIRTY_OVERLAY = 1 << 3;
+  private static final int DIRTY_FLAGS = 1 << 4;
+
   private final Facet.BossBar<V> facet;
-  private final Supplier<Locale> locale;
+  private final UnaryOperator<Component> renderer;
+  private final @Nullable FacetScheduler scheduler; // Only set when coalescing
+
+  // Guarded by this, only used when coalescing
+  private int dirty;
+  private boolean scheduled;
+  private boolean closed;
+  private @Nullable BossBar bar;
+  private Component oldName;
+  private float oldProgress;
+  private BossBar.Color oldColor;
+  private BossBar.Overlay oldOverlay;
+  private final Set<BossBar.Flag> flagsAdded;
+  private final Set<BossBar.Flag> flagsRemoved;
 
-  FacetBossBarListener(final Facet.@NotNull BossBar<V> facet, final @NotNull Supplier<Locale> locale) {
+  FacetBossBarListener(final Facet.@NotNull BossBar<V> facet, final @NotNull UnaryOperator<Component> renderer, final @Nullable FacetScheduler scheduler) {
     this.facet = facet;
-    this.locale = locale;
+    this.renderer = renderer;
+    this.scheduler = COALESCE_INTERVAL > 0 ? scheduler : null;
+    this.flagsAdded = EnumSet.noneOf(BossBar.Flag.class);
+    this.flagsRemoved = EnumSet.noneOf(BossBar.Flag.class);
   }
 
   @Override
   public void bossBarInitialized(final @NotNull BossBar bar) {
+    if(this.scheduler != null) {
+      synchronized(this) {
+        this.dirty = 0; // The initial packet includes any pending changes
+        this.flagsAdded.clear();
+        this.flagsRemoved.clear();
+      }
+    }
     this.facet.bossBarInitialized(bar);
-    this.bossBarNameChanged(bar, bar.name(), bar.name()); // Redo name change with translation
+    this.facet.bossBarNameChanged(bar, bar.name(), this.renderer.apply(bar.name())); // Redo name change with translation
   }
 
   @Override
   public void bossBarNameChanged(final @NotNull BossBar bar, final @NotNull Component oldName, final @NotNull Component newName) {
-    this.facet.bossBarNameChanged(bar, oldName, GlobalTranslator.render(newName, this.locale.get()));
+    if(this.scheduler != null) {
+      synchronized(this) {
+        if((this.dirty & DIRTY_NAME) == 0) this.oldName = oldName;
+        this.markDirty(bar, DIRTY_NAME);
+      }
+      return;
+    }
+    this.facet.bossBarNameChanged(bar, oldName, this.renderer.apply(newName));
   }
 
   @Override
   public void bossBarProgressChanged(final @NotNull BossBar bar, final float oldPercent, final float newPercent) {
+    if(this.scheduler != null) {
+      synchronized(this) {
+        if((this.dirty & DIRTY_PROGRESS) == 0) this.oldProgress = oldPercent;
+        this.markDirty(bar, DIRTY_PROGRESS);
+      }
+      return;
+    }
     this.facet.bossBarProgressChanged(bar, oldPercent, newPercent);
   }
 
   @Override
   public void bossBarColorChanged(final @NotNull BossBar bar, final BossBar.@NotNull Color oldColor, final BossBar.@NotNull Color newColor) {
+    if(this.scheduler != null) {
+      synchronized(this) {
+        if((this.dirty & DIRTY_COLOR) == 0) this.oldColor = oldColor;
+        this.markDirty(bar, DIRTY_COLOR);
+      }
+      return;
+    }
     this.facet.bossBarColorChanged(bar, oldColor, newColor);
   }
 
   @Override
   public void bossBarOverlayChanged(final @NotNull BossBar bar, final BossBar.@NotNull Overlay oldOverlay, final BossBar.@NotNull Overlay newOverlay) {
+    if(this.scheduler != null) {
+      synchronized(this) {
+        if((this.dirty & DIRTY_OVERLAY) == 0) this.oldOverlay = oldOverlay;
+        this.markDirty(bar, DIRTY_OVERLAY);
+      }
+      return;
+    }
     this.facet.bossBarOverlayChanged(bar, oldOverlay, newOverlay);
   }
 
   @Override
   public void bossBarFlagsChanged(final @NotNull BossBar bar, final @NotNull Set<BossBar.Flag> flagsAdded, final @NotNull Set<BossBar.Flag> flagsRemoved) {
+    if(this.scheduler != null) {
+      synchronized(this) {
+        for(final BossBar.Flag flag : flagsAdded) {
+          if(!this.flagsRemoved.remove(flag)) this.flagsAdded.add(flag);
+        }
+        for(final BossBar.Flag flag : flagsRemoved) {
+          if(!this.flagsAdded.remove(flag)) this.flagsRemoved.add(flag);
+        }
+        this.markDirty(bar, DIRTY_FLAGS);
+      }
+      return;
+    }
     this.facet.bossBarFlagsChanged(bar, flagsAdded, flagsRemoved);
   }
 
+  private void markDirty(final @NotNull BossBar bar, final int flag) {
+    this.bar = bar;
+    this.dirty |= flag;
+    if(!this.scheduled && !this.closed) {
+      this.scheduled = true;
+      this.scheduler.schedule(this::flush, COALESCE_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void flush() {
+    final BossBar bar;
+    final int dirty;
+    final Component oldName;
+    final float oldProgress;
+    final BossBar.Color oldColor;
+    final BossBar.Overlay oldOverlay;
+    final Set<BossBar.Flag> flagsAdded;
+    final Set<BossBar.Flag> flagsRemoved;
+    synchronized(this) {
+      this.scheduled = false;
+      if(this.closed || this.bar == null || this.dirty == 0) return;
+      bar = this.bar;
+      dirty = this.dirty;
+      oldName = this.oldName;
+      oldProgress = this.oldProgress;
+      oldColor = this.oldColor;
+      oldOverlay = this.oldOverlay;
+      flagsAdded = this.flagsAdded.isEmpty() ? Collections.emptySet() : EnumSet.copyOf(this.flagsAdded);
+      flagsRemoved = this.flagsRemoved.isEmpty() ? Collections.emptySet() : EnumSet.copyOf(this.flagsRemoved);
+      this.dirty = 0;
+      this.flagsAdded.clear();
+      this.flagsRemoved.clear();
+    }
+
+    // Send the latest values, so each kind of change results in at most one packet
+    if((dirty & DIRTY_NAME) != 0) {
+      this.facet.bossBarNameChanged(bar, oldName, this.renderer.apply(bar.name()));
+    }
+    if((dirty & DIRTY_PROGRESS) != 0 && oldProgress != bar.progress()) {
+      this.facet.bossBarProgressChanged(bar, oldProgress, bar.progress());
+    }
+    if((dirty & DIRTY_COLOR) != 0 && oldColor != bar.color()) {
+      this.facet.bossBarColorChanged(bar, oldColor, bar.color());
+    }
+    if((dirty & DIRTY_OVERLAY) != 0 && oldOverlay != bar.overlay()) {
+      this.facet.bossBarOverlayChanged(bar, oldOverlay, bar.overlay());
+    }
+    if((dirty & DIRTY_FLAGS) != 0 && !(flagsAdded.isEmpty() && flagsRemoved.isEmpty())) {
+      this.facet.bossBarFlagsChanged(bar, flagsAdded, flagsRemoved);
+    }
+  }
+
   @Override
   public void addViewer(final @NotNull V viewer) {
     this.facet.addViewer(viewer);
@@ -89,6 +214,11 @@ class FacetBossBarListener<V> implements Facet.BossBar<V> {
 
   @Override
   public void close() {
+    if(this.scheduler != null) {
+      synchronized(this) {
+        this.closed = true;
+      }
+    }
     this.facet.close();
   }
 }
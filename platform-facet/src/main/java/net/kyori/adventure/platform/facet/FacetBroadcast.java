@@ -0,0 +1,124 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A single broadcast to many audiences.
+ *
+ * <p>Values are created once per group of viewers that share a facet, protocol bucket and locale,
+ * then reused for every other viewer in that group.</p>
+ *
+ * <p>Audiences that send asynchronously may compute values from several threads at once,
+ * so each value is computed while holding a lock for its group only. Factories may compute
+ * values of other groups.</p>
+ */
+final class FacetBroadcast {
+  private final Map<Group, Value> values = new ConcurrentHashMap<>();
+
+  /**
+   * Gets a value for a viewer, creating it if no viewer in the same group has done so yet.
+   *
+   * @param facet a facet
+   * @param viewer a viewer
+   * @param locale a locale
+   * @param original the original value, compared by identity
+   * @param factory a value factory
+   * @param <V> a viewer type
+   * @return a value or {@code null}
+   */
+  <V> @Nullable Object compute(final Facet.@NotNull Message<V, ?> facet, final @NotNull V viewer, final @NotNull Locale locale, final @NotNull Object original, final @NotNull Supplier<?> factory) {
+    final Group group = new Group(facet, facet.protocolBucket(viewer), locale, original);
+    // Only the holder is created under the map's lock, factories may compute other values
+    return this.values.computeIfAbsent(group, key -> new Value()).get(factory);
+  }
+
+  /**
+   * Gets a rendered component, rendering it if no viewer with the same locale has done so yet.
+   *
+   * @param locale a locale
+   * @param original the original component, compared by identity
+   * @param factory a component factory
+   * @return a rendered component
+   */
+  @NotNull Component render(final @NotNull Locale locale, final @NotNull Component original, final @NotNull Supplier<Component> factory) {
+    final Group group = new Group(null, 0, locale, original); // Rendering does not depend on the facet or protocol
+    return (Component) this.values.computeIfAbsent(group, key -> new Value()).get(factory);
+  }
+
+  private static final class Value {
+    private boolean computed; // Guarded by this
+    private @Nullable Object value;
+
+    synchronized @Nullable Object get(final @NotNull Supplier<?> factory) {
+      if(!this.computed) {
+        this.value = factory.get();
+        this.computed = true;
+      }
+      return this.value;
+    }
+  }
+
+  private static final class Group {
+    private final @Nullable Facet<?> facet;
+    private final int bucket;
+    private final Locale locale;
+    private final Object original;
+
+    Group(final @Nullable Facet<?> facet, final int bucket, final @NotNull Locale locale, final @NotNull Object original) {
+      this.facet = facet;
+      this.bucket = bucket;
+      this.locale = locale;
+      this.original = original;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+      if(this == other) return true;
+      if(!(other instanceof Group)) return false;
+      final Group that = (Group) other;
+      return this.facet == that.facet
+        && this.bucket == that.bucket
+        && this.original == that.original
+        && this.locale.equals(that.locale);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = System.identityHashCode(this.facet);
+      result = 31 * result + this.bucket;
+      result = 31 * result + this.locale.hashCode();
+      result = 31 * result + System.identityHashCode(this.original);
+      return result;
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import net.kyori.adventure.audience.MessageType;
+import net.kyori.adventure.identity.Identified;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.inventory.Book;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * A {@link ForwardingAudience} that renders and creates each message once per group of similar viewers.
+ *
+ * @param <V> a viewer type
+ * @see FacetBroadcast
+ */
+final class FacetBroadcastAudience<V> implements ForwardingAudience {
+  private final Iterable<? extends FacetAudience<V>> audiences;
+
+  FacetBroadcastAudience(final @NotNull Iterable<? extends FacetAudience<V>> audiences) {
+    this.audiences = audiences;
+  }
+
+  @Override
+  public @NotNull Iterable<? extends Audience> audiences() {
+    return this.audiences;
+  }
+
+  @Override
+  public void sendMessage(final @NotNull Identified source, final @NotNull Component message, final @NotNull MessageType type) {
+    this.sendMessage(source.identity(), message, type);
+  }
+
+  @Override
+  public void sendMessage(final @NotNull Identity source, final @NotNull Component message, final @NotNull MessageType type) {
+    final FacetBroadcast broadcast = new FacetBroadcast();
+    for(final FacetAudience<V> audience : this.audiences) {
+      audience.sendMessage(source, message, type, broadcast);
+    }
+  }
+
+  @Override
+  public void sendActionBar(final @NotNull Component message) {
+    final FacetBroadcast broadcast = new FacetBroadcast();
+    for(final FacetAudience<V> audience : this.audiences) {
+      audience.sendActionBar(message, broadcast);
+    }
+  }
+
+  /**
+   * Shows an action bar for a duration to every audience.
+   *
+   * @param message an action bar
+   * @param duration how long to show the action bar
+   * @see FacetAudience#showActionBar(Component, Duration)
+   */
+  void showActionBar(final @NotNull Component message, final @NotNull Duration duration) {
+    // Shared by every repeat of the action bar, so each message is still only created once
+    final FacetBroadcast broadcast = new FacetBroadcast();
+    for(final FacetAudience<V> audience : this.audiences) {
+      audience.showActionBar(message, duration, broadcast);
+    }
+  }
+
+  @Override
+  public void sendPlayerListHeader(final @NotNull Component header) {
+    final FacetBroadcast broadcast = new FacetBroadcast();
+    for(final FacetAudience<V> audience : this.audiences) {
+      audience.sendPlayerListHeader(header, broadcast);
+    }
+  }
+
+  @Override
+  public void sendPlayerListFooter(final @NotNull Component footer) {
+    final FacetBroadcast broadcast = new FacetBroadcast();
+    for(final FacetAudience<V> audience : this.audiences) {
+      audience.sendPlayerListFooter(footer, broadcast);
+    }
+  }
+
+  @Override
+  public void sendPlayerListHeaderAndFooter(final @NotNull Component header, final @NotNull Component footer) {
+    final FacetBroadcast broadcast = new FacetBroadcast();
+    for(final FacetAudience<V> audience : this.audiences) {
+      audience.sendPlayerListHeaderAndFooter(header, footer, broadcast);
+    }
+  }
+
+  @Override
+  public void showTitle(final @NotNull Title title) {
+    final FacetBroadcast broadcast = new FacetBroadcast();
+    for(final FacetAudience<V> audience : this.audiences) {
+      audience.showTitle(title, broadcast);
+    }
+  }
+
+  @Override
+  public void openBook(final @NotNull Book book) {
+    final FacetBroadcast broadcast = new FacetBroadcast();
+    for(final FacetAudience<V> audience : this.audiences) {
+      audience.openBook(book, broadcast);
+    }
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.lang.invoke.MethodType.methodType;
+import static net.kyori.adventure.platform.facet.Knob.logError;
+
+/**
+ * A serial executor that runs tasks in order on a shared pool of workers.
+ *
+ * <p>Each audience has its own executor, so tasks for one audience never run concurrently or out
+ * of order, while tasks for different audiences are spread across the pool. Any thread may submit
+ * tasks without locking, and only one thread drains them at a time.</p>
+ *
+ * <p>The pool is bounded, and when it is full the calling thread drains the executor itself,
+ * which slows down callers that send faster than the workers can keep up. The pool uses platform
+ * threads, unless virtual threads are enabled and supported by the runtime, in which case each
+ * drain runs on its own virtual thread and the number of drains running at once is limited.</p>
+ */
+final class FacetExecutor implements Executor, Runnable {
+  private static final int MAXIMUM_BATCH = 64;
+
+  private final Executor pool;
+  private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  FacetExecutor() {
+    this(Pool.INSTANCE);
+  }
+
+  FacetExecutor(final @NotNull Executor pool) {
+    this.pool = pool;
+  }
+
+  @Override
+  public void execute(final @NotNull Runnable task) {
+    this.tasks.offer(task);
+    if(this.running.compareAndSet(false, true) && !this.submit()) {
+      this.run();
+    }
+  }
+
+  /**
+   * Runs a task that is not thread-safe, once every task before it has run.
+   *
+   * <p>If this executor is idle, the task runs on the calling thread. Otherwise it runs on the
+   * scheduler, and tasks after it wait until it has run. Tasks the scheduler can no longer run are dropped.</p>
+   *
+   * @param scheduler a scheduler
+   * @param task a task
+   */
+  void executeOn(final @NotNull FacetScheduler scheduler, final @NotNull Runnable task) {
+    if(this.tasks.isEmpty() && this.running.compareAndSet(false, true)) {
+      try {
+        task.run();
+      } finally {
+        this.resume();
+      }
+      return;
+    }
+    this.execute(new Barrier(scheduler, task));
+  }
+
+  @Override
+  public void run() {
+    int budget = MAXIMUM_BATCH;
+    while(true) {
+      final Runnable task = this.tasks.poll();
+      if(task == null) {
+        this.running.set(false);
+        // A task may have been added after polling, but before the executor stopped running
+        if(this.tasks.isEmpty() || !this.running.compareAndSet(false, true)) return;
+        continue;
+      }
+
+      if(task instanceof Barrier) {
+        ((Barrier) task).handOff(this);
+        return; // Still running, until the barrier resumes this executor
+      }
+
+      try {
+        task.run();
+      } catch(final Throwable error) {
+        logError(error, "Failed to run task: %s", task);
+      }
+
+      if(--budget == 0) {
+        if(this.submit()) return; // Give other audiences a turn
+        budget = MAXIMUM_BATCH;
+      }
+    }
+  }
+
+  private void resume() {
+    this.running.set(false);
+    if(!this.tasks.isEmpty() && this.running.compareAndSet(false, true) && !this.submit()) {
+      this.run();
+    }
+  }
+
+  private boolean submit() {
+    try {
+      this.pool.execute(this);
+      return true;
+    } catch(final RejectedExecutionException error) {
+      return false;
+    }
+  }
+
+  /**
+   * A task that runs on a scheduler, while the tasks after it wait.
+   */
+  private static final class Barrier implements Runnable {
+    private final FacetScheduler scheduler;
+    private final Runnable task;
+
+    Barrier(final @NotNull FacetScheduler scheduler, final @NotNull Runnable task) {
+      this.scheduler = scheduler;
+      this.task = task;
+    }
+
+    void handOff(final @NotNull FacetExecutor executor) {
+      final FacetScheduler.Task scheduled = this.scheduler.schedule(() -> {
+        try {
+          this.task.run();
+        } finally {
+          executor.resume();
+        }
+      }, 0, TimeUnit.MILLISECONDS);
+      if(scheduled.isCancelled()) {
+        executor.resume(); // The scheduler was closed, so the task is dropped
+      }
+    }
+
+    @Override
+    public void run() {
+      this.task.run();
+    }
+
+    @Override
+    public String toString() {
+      return this.task.toString();
+    }
+  }
+
+  private static final class Pool {
+    static final Executor INSTANCE = create();
+
+    private static @NotNull Executor create() {
+      if(Knob.isEnabled("virtualThreads", false)) {
+        final Executor executor = createVirtual();
+        if(executor != null) return executor;
+      }
+
+      final int threads = Math.max(1, Knob.getInteger("asyncThreads", Math.min(4, Runtime.getRuntime().availableProcessors() / 2)));
+      final int capacity = Math.max(1, Knob.getInteger("asyncQueueSize", 1024));
+      final AtomicInteger count = new AtomicInteger();
+      final ThreadFactory factory = task -> {
+        final Thread thread = new Thread(task, "adventure-platform-worker-" + count.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      };
+      // Rejected tasks are drained by the caller, see FacetExecutor#execute
+      final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(capacity), factory, new ThreadPoolExecutor.AbortPolicy());
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+
+    private static @Nullable Executor createVirtual() {
+      final MethodHandle factory;
+      try {
+        factory = MethodHandles.lookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", methodType(ExecutorService.class));
+      } catch(final NoSuchMethodException | IllegalAccessException error) {
+        return null; // Virtual threads are not supported before Java 19
+      }
+      try {
+        final int limit = Math.max(1, Knob.getInteger("virtualThreadLimit", 256));
+        return new Bounded((ExecutorService) factory.invokeExact(), limit);
+      } catch(final Throwable error) {
+        logError(error, "Failed to create virtual thread executor, using platform threads");
+        return null;
+      }
+    }
+  }
+
+  /**
+   * An executor that rejects tasks while too many of its tasks are running.
+   */
+  private static final class Bounded implements Executor {
+    private final Executor delegate;
+    private final Semaphore permits;
+
+    Bounded(final @NotNull Executor delegate, final int limit) {
+      this.delegate = delegate;
+      this.permits = new Semaphore(limit);
+    }
+
+    @Override
+    public void execute(final @NotNull Runnable task) {
+      if(!this.permits.tryAcquire()) {
+        throw new RejectedExecutionException("Too many tasks running"); // Drained by the caller instead
+      }
+      try {
+        this.delegate.execute(() -> {
+          try {
+            task.run();
+          } finally {
+            this.permits.release();
+          }
+        });
+      } catch(final RejectedExecutionException error) {
+        this.permits.release();
+        throw error;
+      }
+    }
+  }
+}
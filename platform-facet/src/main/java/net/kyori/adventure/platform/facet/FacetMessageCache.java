@@ -0,0 +1,179 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded cache of messages created by {@link Facet.Message}s.
+ *
+ * <p>Messages are keyed on their facet, the protocol bucket of the viewer and the rendered component,
+ * so they must not be mutated once created. Entries are evicted in least-recently-used order once
+ * the cache is full.</p>
+ *
+ * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.messageCache=true}, to enable the cache.</p>
+ *
+ * @since 4.0.0
+ */
+public final class FacetMessageCache {
+  /**
+   * The default maximum number of messages.
+   *
+   * @since 4.0.0
+   */
+  public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+  private final Map<Key, Object> messages;
+  private final AtomicLong hits;
+  private final AtomicLong misses;
+
+  /**
+   * Create a new message cache.
+   *
+   * @param maximumSize the maximum number of messages
+   * @since 4.0.0
+   */
+  public FacetMessageCache(final int maximumSize) {
+    if(maximumSize < 1) throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+    this.messages = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<Key, Object> eldest) {
+        return this.size() > maximumSize;
+      }
+    };
+    this.hits = new AtomicLong();
+    this.misses = new AtomicLong();
+  }
+
+  /**
+   * Creates a message, or gets a message previously created for an equal component.
+   *
+   * @param facet a message facet
+   * @param viewer a viewer
+   * @param message a rendered component
+   * @param <V> a viewer type
+   * @param <M> a message type
+   * @return a message or {@code null}
+   * @since 4.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public <V, M> @Nullable M createMessage(final Facet.@NotNull Message<V, M> facet, final @NotNull V viewer, final @NotNull Component message) {
+    final Key key = new Key(facet, facet.protocolBucket(viewer), message);
+    synchronized(this.messages) {
+      final Object cached = this.messages.get(key);
+      if(cached != null) {
+        this.hits.incrementAndGet();
+        return (M) cached;
+      }
+    }
+
+    this.misses.incrementAndGet();
+    final M created = facet.createMessage(viewer, message);
+    if(created != null) {
+      synchronized(this.messages) {
+        this.messages.put(key, created);
+      }
+    }
+    return created;
+  }
+
+  /**
+   * Removes all messages.
+   *
+   * @since 4.0.0
+   */
+  public void invalidate() {
+    synchronized(this.messages) {
+      this.messages.clear();
+    }
+  }
+
+  /**
+   * Gets the number of messages.
+   *
+   * @return the size of the cache
+   * @since 4.0.0
+   */
+  public int size() {
+    synchronized(this.messages) {
+      return this.messages.size();
+    }
+  }
+
+  /**
+   * Gets the number of messages that were served from the cache.
+   *
+   * @return the number of hits
+   * @since 4.0.0
+   */
+  public long hits() {
+    return this.hits.get();
+  }
+
+  /**
+   * Gets the number of messages that were not served from the cache.
+   *
+   * @return the number of misses
+   * @since 4.0.0
+   */
+  public long misses() {
+    return this.misses.get();
+  }
+
+  private static final class Key {
+    private final Facet<?> facet;
+    private final int bucket;
+    private final Component message;
+    private final int hashCode;
+
+    Key(final @NotNull Facet<?> facet, final int bucket, final @NotNull Component message) {
+      this.facet = facet;
+      this.bucket = bucket;
+      this.message = message;
+      this.hashCode = 31 * (31 * System.identityHashCode(facet) + bucket) + message.hashCode();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+      if(this == other) return true;
+      if(!(other instanceof Key)) return false;
+      final Key that = (Key) other;
+      return this.hashCode == that.hashCode
+        && this.facet == that.facet
+        && this.bucket == that.bucket
+        && (this.message == that.message || this.message.equals(that.message));
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hashCode;
+    }
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+/**
+ * An index of the audiences that have a permission, for each permission that was requested.
+ *
+ * <p>Members are updated when viewers are added, removed, or have their permissions changed.
+ * Since most platforms do not announce permission changes, each permission is also
+ * checked again for every viewer once its members are older than the refresh interval,
+ * so a viewer can keep receiving messages for up to that long after losing a permission.</p>
+ *
+ * <p>Once {@value #MAXIMUM_PERMISSIONS} permissions are indexed, the permission that was
+ * requested least recently is removed for each new one.</p>
+ *
+ * @param <V> a viewer type
+ * @param <A> an audience type
+ */
+final class FacetPermissionIndex<V, A extends FacetAudience<V>> {
+  private static final int MAXIMUM_PERMISSIONS = 256;
+
+  private final Map<V, A> viewers;
+  private final BiPredicate<V, String> hasPermission;
+  private final long refreshInterval;
+  private final Map<String, Members> permissions;
+
+  FacetPermissionIndex(final @NotNull Map<V, A> viewers, final @NotNull BiPredicate<V, String> hasPermission, final long refreshInterval, final @NotNull TimeUnit unit) {
+    this.viewers = viewers;
+    this.hasPermission = hasPermission;
+    this.refreshInterval = unit.toNanos(refreshInterval);
+    this.permissions = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Gets a live view of the audiences that have a permission.
+   *
+   * @param permission a permission
+   * @return an iterable of audiences
+   */
+  @NotNull Iterable<A> audiences(final @NotNull String permission) {
+    return () -> this.members(permission).iterator();
+  }
+
+  /**
+   * Adds a viewer to the permissions it has.
+   *
+   * @param viewer a viewer
+   * @param audience the viewer's audience
+   */
+  void addViewer(final @NotNull V viewer, final @NotNull A audience) {
+    for(final Members members : this.permissions.values()) {
+      members.update(viewer, audience);
+    }
+  }
+
+  /**
+   * Removes a viewer from every permission.
+   *
+   * @param viewer a viewer
+   */
+  void removeViewer(final @NotNull V viewer) {
+    for(final Members members : this.permissions.values()) {
+      members.audiences.remove(viewer);
+    }
+  }
+
+  /**
+   * Checks the permissions of a viewer again.
+   *
+   * @param viewer a viewer
+   */
+  void changeViewer(final @NotNull V viewer) {
+    final A audience = this.viewers.get(viewer);
+    if(audience == null) {
+      this.removeViewer(viewer);
+    } else {
+      this.addViewer(viewer, audience);
+    }
+  }
+
+  private @NotNull Members members(final @NotNull String permission) {
+    Members members = this.permissions.get(permission);
+    if(members == null) {
+      if(this.permissions.size() >= MAXIMUM_PERMISSIONS) {
+        this.evict(); // Permissions are rebuilt when requested again
+      }
+      members = this.permissions.computeIfAbsent(permission, Members::new);
+    }
+    members.requested = System.nanoTime();
+    members.refreshIfStale();
+    return members;
+  }
+
+  private void evict() {
+    Members eldest = null;
+    for(final Members members : this.permissions.values()) {
+      if(eldest == null || members.requested - eldest.requested < 0) {
+        eldest = members;
+      }
+    }
+    if(eldest != null) {
+      this.permissions.remove(eldest.permission, eldest);
+    }
+  }
+
+  private final class Members implements Iterable<A> {
+    private final String permission;
+    private final Map<V, A> audiences;
+    private volatile long refreshed;
+    private volatile long requested;
+    private volatile boolean built;
+
+    Members(final @NotNull String permission) {
+      this.permission = permission;
+      this.audiences = new ConcurrentHashMap<>();
+    }
+
+    void update(final @NotNull V viewer, final @Nullable A audience) {
+      if(audience != null && FacetPermissionIndex.this.hasPermission.test(viewer, this.permission)) {
+        this.audiences.put(viewer, audience);
+      } else {
+        this.audiences.remove(viewer);
+      }
+    }
+
+    void refreshIfStale() {
+      final long now = System.nanoTime();
+      if(this.built && now - this.refreshed < FacetPermissionIndex.this.refreshInterval) return;
+
+      synchronized(this) {
+        if(this.built && now - this.refreshed < FacetPermissionIndex.this.refreshInterval) return;
+        for(final Map.Entry<V, A> entry : FacetPermissionIndex.this.viewers.entrySet()) {
+          this.update(entry.getKey(), entry.getValue());
+        }
+        this.audiences.keySet().retainAll(FacetPermissionIndex.this.viewers.keySet());
+        this.refreshed = now;
+        this.built = true;
+      }
+    }
+
+    @Override
+    public @NotNull Iterator<A> iterator() {
+      return this.audiences.values().iterator();
+    }
+  }
+}
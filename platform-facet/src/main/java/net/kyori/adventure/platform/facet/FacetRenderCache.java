@@ -0,0 +1,246 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.translation.GlobalTranslator;
+import net.kyori.adventure.translation.Translator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A bounded cache of components rendered by the {@link GlobalTranslator}.
+ *
+ * <p>Once the cache is full, an entry that has not been used since the last eviction is removed
+ * for each new render. The cache is invalidated when a source is added to or removed from the
+ * translator, which is checked at most once per tick.</p>
+ *
+ * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.renderCache=true}, to enable the cache.</p>
+ *
+ * @since 4.0.0
+ */
+public final class FacetRenderCache {
+  /**
+   * The default maximum number of rendered components.
+   *
+   * @since 4.0.0
+   */
+  public static final int DEFAULT_MAXIMUM_SIZE = 512;
+
+  private static final long SOURCE_CHECK_INTERVAL = TimeUnit.MILLISECONDS.toNanos(50);
+
+  private final int maximumSize;
+  private final Map<Key, Entry> components;
+  private final List<Translator> sources; // Guarded by itself
+  private final AtomicLong epoch;
+  private final AtomicLong hits;
+  private final AtomicLong misses;
+  private volatile long nextSourceCheck;
+
+  /**
+   * Create a new render cache.
+   *
+   * @param maximumSize the maximum number of rendered components
+   * @since 4.0.0
+   */
+  public FacetRenderCache(final int maximumSize) {
+    if(maximumSize < 1) throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+    this.maximumSize = maximumSize;
+    this.components = new ConcurrentHashMap<>();
+    this.sources = new ArrayList<>();
+    this.epoch = new AtomicLong();
+    this.hits = new AtomicLong();
+    this.misses = new AtomicLong();
+    this.nextSourceCheck = System.nanoTime();
+  }
+
+  /**
+   * Renders a component, or gets a previous render of an equal component.
+   *
+   * @param original a component
+   * @param locale a locale
+   * @return a rendered component
+   * @since 4.0.0
+   */
+  public @NotNull Component render(final @NotNull Component original, final @NotNull Locale locale) {
+    final Key key = new Key(requireNonNull(original, "component"), requireNonNull(locale, "locale"));
+    this.checkSources();
+    final Entry cached = this.components.get(key);
+    if(cached != null) {
+      if(!cached.used) cached.used = true; // Avoid writing to shared entries on every hit
+      this.hits.incrementAndGet();
+      return cached.rendered;
+    }
+
+    this.misses.incrementAndGet();
+    final long epoch = this.epoch.get();
+    final Component rendered = GlobalTranslator.render(original, locale);
+    if(this.components.size() >= this.maximumSize) {
+      this.evict();
+    }
+    final Entry entry = new Entry(rendered);
+    if(this.components.putIfAbsent(key, entry) == null && this.epoch.get() != epoch) {
+      this.components.remove(key, entry); // Invalidated while rendering, so the render may be stale
+    }
+    return rendered;
+  }
+
+  /**
+   * Removes all rendered components.
+   *
+   * <p>This must be called when the translations of an existing source change.</p>
+   *
+   * @since 4.0.0
+   */
+  public void invalidate() {
+    this.epoch.incrementAndGet(); // Before clearing, so renders that started earlier are not stored
+    this.components.clear();
+  }
+
+  /**
+   * Gets the number of rendered components.
+   *
+   * @return the size of the cache
+   * @since 4.0.0
+   */
+  public int size() {
+    return this.components.size();
+  }
+
+  /**
+   * Gets the number of renders that were served from the cache.
+   *
+   * @return the number of hits
+   * @since 4.0.0
+   */
+  public long hits() {
+    return this.hits.get();
+  }
+
+  /**
+   * Gets the number of renders that were not served from the cache.
+   *
+   * @return the number of misses
+   * @since 4.0.0
+   */
+  public long misses() {
+    return this.misses.get();
+  }
+
+  private void evict() {
+    // Gives every used entry a second chance, then removes the first entry that was not used
+    for(final Iterator<Entry> it = this.components.values().iterator(); it.hasNext(); ) {
+      final Entry entry = it.next();
+      if(entry.used) {
+        entry.used = false;
+      } else {
+        it.remove();
+        return;
+      }
+    }
+    final Iterator<Entry> it = this.components.values().iterator();
+    if(it.hasNext()) {
+      it.next();
+      it.remove();
+    }
+  }
+
+  private void checkSources() {
+    final long now = System.nanoTime();
+    if(now - this.nextSourceCheck < 0) return;
+    synchronized(this.sources) {
+      if(now - this.nextSourceCheck < 0) return;
+      this.nextSourceCheck = now + SOURCE_CHECK_INTERVAL;
+      if(this.isStale()) {
+        this.invalidate();
+      }
+    }
+  }
+
+  // Must be called while holding the lock
+  private boolean isStale() {
+    final Iterator<? extends Translator> current = GlobalTranslator.get().sources().iterator();
+    boolean stale = false;
+    for(final Translator source : this.sources) {
+      if(!current.hasNext() || current.next() != source) {
+        stale = true;
+        break;
+      }
+    }
+    if(!stale && !current.hasNext()) return false;
+
+    this.sources.clear();
+    for(final Translator source : GlobalTranslator.get().sources()) {
+      this.sources.add(source);
+    }
+    return true;
+  }
+
+  private static final class Entry {
+    final Component rendered;
+    volatile boolean used;
+
+    Entry(final @NotNull Component rendered) {
+      this.rendered = rendered;
+    }
+  }
+
+  private static final class Key {
+    private final Component component;
+    private final Locale locale;
+    private final int hashCode;
+
+    Key(final @NotNull Component component, final @NotNull Locale locale) {
+      this.component = component;
+      this.locale = locale;
+      this.hashCode = 31 * component.hashCode() + locale.hashCode();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+      if(this == other) return true;
+      if(!(other instanceof Key)) return false;
+      final Key that = (Key) other;
+      return this.hashCode == that.hashCode
+        && this.locale.equals(that.locale)
+        && (this.component == that.component || this.component.equals(that.component));
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hashCode;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A scheduler for delayed and repeated facet work, such as coalesced boss bar updates and persistent action bars.
+ *
+ * <p>Platforms should run tasks on the thread that owns their API, such as the main server thread,
+ * and round delays up to their tick.</p>
+ *
+ * @see FacetAudienceProvider#scheduler(FacetScheduler)
+ * @since 4.0.0
+ */
+public interface FacetScheduler {
+  /**
+   * Runs a task after a delay.
+   *
+   * @param task a task
+   * @param delay the delay
+   * @param unit the unit of the delay
+   * @return the scheduled task
+   * @since 4.0.0
+   */
+  @NotNull Task schedule(final @NotNull Runnable task, final long delay, final @NotNull TimeUnit unit);
+
+  /**
+   * Runs a task repeatedly, after an initial delay.
+   *
+   * @param task a task
+   * @param period the initial delay and the period between runs
+   * @param unit the unit of the period
+   * @return the scheduled task
+   * @since 4.0.0
+   */
+  @NotNull Task repeat(final @NotNull Runnable task, final long period, final @NotNull TimeUnit unit);
+
+  /**
+   * A scheduled task.
+   *
+   * @since 4.0.0
+   */
+  interface Task {
+    /**
+     * Cancels the task, if it has not run yet or is repeating.
+     *
+     * @since 4.0.0
+     */
+    void cancel();
+
+    /**
+     * Gets whether the task was cancelled.
+     *
+     * @return if cancelled
+     * @since 4.0.0
+     */
+    boolean isCancelled();
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import java.io.Closeable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+
+import static net.kyori.adventure.platform.facet.Knob.logError;
+
+/**
+ * A scheduler that runs tasks on its own daemon thread, for platforms that do not provide one.
+ *
+ * <p>Tasks must be short and must not block. The thread is stopped once the scheduler is closed.</p>
+ */
+final class FacetThreadScheduler implements FacetScheduler, Closeable {
+  private static final Task CANCELLED = new Task() {
+    @Override
+    public void cancel() {
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return true;
+    }
+  };
+
+  private final ScheduledThreadPoolExecutor executor;
+
+  FacetThreadScheduler() {
+    this.executor = new ScheduledThreadPoolExecutor(1, task -> {
+      final Thread thread = new Thread(task, "adventure-platform-scheduler");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.executor.setRemoveOnCancelPolicy(true);
+    this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+  }
+
+  @Override
+  public @NotNull Task schedule(final @NotNull Runnable task, final long delay, final @NotNull TimeUnit unit) {
+    try {
+      return new FutureTask(this.executor.schedule(guard(task), delay, unit));
+    } catch(final RejectedExecutionException error) {
+      return CANCELLED; // Closed
+    }
+  }
+
+  @Override
+  public @NotNull Task repeat(final @NotNull Runnable task, final long period, final @NotNull TimeUnit unit) {
+    try {
+      return new FutureTask(this.executor.scheduleAtFixedRate(guard(task), period, period, unit));
+    } catch(final RejectedExecutionException error) {
+      return CANCELLED; // Closed
+    }
+  }
+
+  @Override
+  public void close() {
+    this.executor.shutdownNow();
+  }
+
+  private static @NotNull Runnable guard(final @NotNull Runnable task) {
+    return () -> {
+      try {
+        task.run();
+      } catch(final Throwable error) {
+        // Catch everything, since an exception would cancel a repeating task
+        logError(error, "Failed scheduled task: %s", task);
+      }
+    };
+  }
+
+  private static final class FutureTask implements Task {
+    private final ScheduledFuture<?> future;
+
+    FutureTask(final @NotNull ScheduledFuture<?> future) {
+      this.future = future;
+    }
+
+    @Override
+    public void cancel() {
+      this.future.cancel(false);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return this.future.isCancelled();
+    }
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A concurrent set of viewers, with snapshot iteration.
+ *
+ * <p>Unlike a {@link java.util.concurrent.CopyOnWriteArraySet}, adding and removing a viewer
+ * does not copy the set, and {@link #contains(Object)} does not scan it. A snapshot is only
+ * taken when the set is iterated after a change, and is shared until the next change.</p>
+ *
+ * <p>Viewers are iterated in the order they were added.</p>
+ *
+ * <p>This class is used by the facets of other platforms, and is not meant to be used
+ * outside of them.</p>
+ *
+ * @param <V> a viewer type
+ * @since 4.0.0
+ */
+public final class FacetViewerSet<V> extends AbstractSet<V> {
+  private final Map<V, Boolean> viewers = new LinkedHashMap<>(); // Guarded by itself
+  private volatile long version; // Only changed while holding the lock of viewers
+  private volatile @Nullable Snapshot snapshot;
+
+  /**
+   * Create a new, empty viewer set.
+   *
+   * @since 4.0.0
+   */
+  public FacetViewerSet() {
+  }
+
+  /**
+   * Create a new viewer set.
+   *
+   * @param viewers the initial viewers
+   * @since 4.0.0
+   */
+  public FacetViewerSet(final @NotNull Collection<? extends V> viewers) {
+    this.addAll(viewers);
+  }
+
+  @Override
+  public boolean add(final @NotNull V viewer) {
+    synchronized(this.viewers) {
+      if(this.viewers.putIfAbsent(viewer, Boolean.TRUE) != null) return false;
+      this.version++;
+      return true;
+    }
+  }
+
+  @Override
+  public boolean remove(final @Nullable Object viewer) {
+    if(viewer == null) return false;
+    synchronized(this.viewers) {
+      if(this.viewers.remove(viewer) == null) return false;
+      this.version++;
+      return true;
+    }
+  }
+
+  @Override
+  public boolean contains(final @Nullable Object viewer) {
+    if(viewer == null) return false;
+    synchronized(this.viewers) {
+      return this.viewers.containsKey(viewer);
+    }
+  }
+
+  @Override
+  public void clear() {
+    synchronized(this.viewers) {
+      this.viewers.clear();
+      this.version++;
+    }
+  }
+
+  @Override
+  public int size() {
+    synchronized(this.viewers) {
+      return this.viewers.size();
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    synchronized(this.viewers) {
+      return this.viewers.isEmpty();
+    }
+  }
+
+  /**
+   * Gets the viewer that was added first, without taking a snapshot.
+   *
+   * @return the first viewer, or {@code null} if the set is empty
+   * @since 4.0.0
+   */
+  public @Nullable V first() {
+    synchronized(this.viewers) {
+      final Iterator<V> it = this.viewers.keySet().iterator();
+      return it.hasNext() ? it.next() : null;
+    }
+  }
+
+  @Override
+  public @NotNull Iterator<V> iterator() {
+    return new SnapshotIterator(this.snapshot());
+  }
+
+  @Override
+  public Object @NotNull [] toArray() {
+    return this.snapshot().clone();
+  }
+
+  private Object @NotNull [] snapshot() {
+    final Snapshot snapshot = this.snapshot;
+    if(snapshot != null && snapshot.version == this.version) return snapshot.viewers;
+
+    synchronized(this.viewers) {
+      final Snapshot created = new Snapshot(this.version, this.viewers.keySet().toArray());
+      this.snapshot = created;
+      return created.viewers;
+    }
+  }
+
+  private static final class Snapshot {
+    private final long version;
+    private final Object[] viewers;
+
+    Snapshot(final long version, final Object @NotNull [] viewers) {
+      this.version = version;
+      this.viewers = viewers;
+    }
+  }
+
+  private final class SnapshotIterator implements Iterator<V> {
+    private final Object[] viewers;
+    private int index;
+    private @Nullable Object last;
+
+    SnapshotIterator(final Object @NotNull [] viewers) {
+      this.viewers = viewers;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.index < this.viewers.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V next() {
+      if(this.index >= this.viewers.length) throw new NoSuchElementException();
+      final Object viewer = this.viewers[this.index++];
+      this.last = viewer;
+      return (V) viewer;
+    }
+
+    @Override
+    public void remove() {
+      if(this.last == null) throw new IllegalStateException();
+      FacetViewerSet.this.remove(this.last);
+      this.last = null;
+    }
+  }
+}
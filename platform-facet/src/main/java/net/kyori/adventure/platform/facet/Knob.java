@@ -66,6 +66,27 @@ public final class Knob {
     return System.getProperty(NAMESPACE + "." + key, Boolean.toString(defaultValue)).equalsIgnoreCase("true");
   }
 
+  /**
+   * Gets the value of an integer setting.
+   *
+   * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.<key>=<value>}, to change the value.</p>
+   *
+   * @param key a key
+   * @param defaultValue the default value
+   * @return the value, or the default value if not set or not an integer
+   * @since 4.0.0
+   */
+  public static int getInteger(final @NotNull String key, final int defaultValue) {
+    final String value = System.getProperty(NAMESPACE + "." + key);
+    if(value == null) return defaultValue;
+    try {
+      return Integer.parseInt(value.trim());
+    } catch(final NumberFormatException error) {
+      logError(error, "Invalid value for %s: %s", key, value);
+      return defaultValue;
+    }
+  }
+
   /**
    * Logs an error.
    *
@@ -0,0 +1,134 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FacetBroadcastTest {
+  private static final Facet.Message<Integer, Object> FACET = new Facet.Message<Integer, Object>() {
+    @Override
+    public @Nullable Object createMessage(final @NotNull Integer viewer, final @NotNull Component message) {
+      return message;
+    }
+
+    @Override
+    public int protocolBucket(final @NotNull Integer viewer) {
+      return viewer % 2; // Even and odd viewers use different protocols
+    }
+  };
+
+  @Test
+  void testValueCreatedOncePerGroup() {
+    final FacetBroadcast broadcast = new FacetBroadcast();
+    final Component original = Component.text("hello");
+    final AtomicInteger created = new AtomicInteger();
+
+    final Object first = broadcast.compute(FACET, 0, Locale.US, original, () -> "value-" + created.incrementAndGet());
+    final Object second = broadcast.compute(FACET, 2, Locale.US, original, () -> "value-" + created.incrementAndGet());
+    assertSame(first, second);
+    assertEquals(1, created.get());
+  }
+
+  @Test
+  void testValueCreatedForEachBucketAndLocale() {
+    final FacetBroadcast broadcast = new FacetBroadcast();
+    final Component original = Component.text("hello");
+    final AtomicInteger created = new AtomicInteger();
+
+    broadcast.compute(FACET, 0, Locale.US, original, created::incrementAndGet);
+    broadcast.compute(FACET, 1, Locale.US, original, created::incrementAndGet);
+    broadcast.compute(FACET, 0, Locale.GERMANY, original, created::incrementAndGet);
+    broadcast.compute(FACET, 1, Locale.GERMANY, original, created::incrementAndGet);
+    assertEquals(4, created.get());
+  }
+
+  @Test
+  void testOriginalComparedByIdentity() {
+    final FacetBroadcast broadcast = new FacetBroadcast();
+    final AtomicInteger created = new AtomicInteger();
+
+    broadcast.compute(FACET, 0, Locale.US, Component.text("hello"), created::incrementAndGet);
+    broadcast.compute(FACET, 0, Locale.US, Component.text("hello"), created::incrementAndGet);
+    assertEquals(2, created.get());
+  }
+
+  @Test
+  void testRenderedOncePerLocale() {
+    final FacetBroadcast broadcast = new FacetBroadcast();
+    final Component original = Component.text("hello");
+    final AtomicInteger rendered = new AtomicInteger();
+
+    broadcast.render(Locale.US, original, () -> {
+      rendered.incrementAndGet();
+      return original;
+    });
+    broadcast.render(Locale.US, original, () -> {
+      rendered.incrementAndGet();
+      return original;
+    });
+    assertEquals(1, rendered.get());
+  }
+
+  @Test
+  void testValueCreatedOnceWhenConcurrent() throws Exception {
+    final FacetBroadcast broadcast = new FacetBroadcast();
+    final Component original = Component.text("hello");
+    final AtomicInteger created = new AtomicInteger();
+    final CountDownLatch start = new CountDownLatch(1);
+    final ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<Object>> values = new ArrayList<>();
+      for(int i = 0; i < 8; i++) {
+        final int viewer = i * 2;
+        values.add(pool.submit(() -> {
+          start.await();
+          return broadcast.compute(FACET, viewer, Locale.US, original, () -> "value-" + created.incrementAndGet());
+        }));
+      }
+      start.countDown();
+
+      final Object first = values.get(0).get();
+      for(final Future<Object> value : values) {
+        assertSame(first, value.get());
+      }
+      assertEquals(1, created.get());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+}
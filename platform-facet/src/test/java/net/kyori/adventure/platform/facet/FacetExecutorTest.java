@@ -0,0 +1,187 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FacetExecutorTest {
+  @Test
+  void testTasksRunInOrder() throws InterruptedException {
+    final ExecutorService pool = Executors.newFixedThreadPool(4);
+    try {
+      final FacetExecutor executor = new FacetExecutor(pool);
+      final List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+      final CountDownLatch done = new CountDownLatch(1);
+      final List<Integer> expected = new ArrayList<>();
+      for(int i = 0; i < 1000; i++) {
+        final int index = i;
+        expected.add(index);
+        executor.execute(() -> ran.add(index));
+      }
+      executor.execute(done::countDown);
+
+      assertTrue(done.await(10, TimeUnit.SECONDS));
+      assertEquals(expected, ran);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void testTasksAfterBarrierWaitForScheduler() {
+    final Queue<Runnable> pool = new ArrayDeque<>();
+    final ManualScheduler scheduler = new ManualScheduler(false);
+    final FacetExecutor executor = new FacetExecutor(pool::add);
+    final List<String> ran = new ArrayList<>();
+
+    executor.execute(() -> ran.add("first"));
+    executor.executeOn(scheduler, () -> ran.add("barrier"));
+    executor.execute(() -> ran.add("last"));
+
+    drain(pool);
+    assertEquals(Collections.singletonList("first"), ran);
+    assertEquals(1, scheduler.tasks.size());
+
+    drain(scheduler.tasks);
+    assertEquals(Arrays.asList("first", "barrier"), ran);
+
+    drain(pool);
+    assertEquals(Arrays.asList("first", "barrier", "last"), ran);
+  }
+
+  @Test
+  void testBarrierRunsInlineWhenIdle() {
+    final Queue<Runnable> pool = new ArrayDeque<>();
+    final ManualScheduler scheduler = new ManualScheduler(false);
+    final FacetExecutor executor = new FacetExecutor(pool::add);
+    final List<String> ran = new ArrayList<>();
+
+    executor.executeOn(scheduler, () -> ran.add("barrier"));
+    assertEquals(Collections.singletonList("barrier"), ran);
+    assertTrue(scheduler.tasks.isEmpty());
+
+    executor.execute(() -> ran.add("after"));
+    drain(pool);
+    assertEquals(Arrays.asList("barrier", "after"), ran);
+  }
+
+  @Test
+  void testCancelledBarrierIsDropped() {
+    final Queue<Runnable> pool = new ArrayDeque<>();
+    final ManualScheduler scheduler = new ManualScheduler(true);
+    final FacetExecutor executor = new FacetExecutor(pool::add);
+    final List<String> ran = new ArrayList<>();
+
+    executor.execute(() -> ran.add("first"));
+    executor.executeOn(scheduler, () -> ran.add("barrier"));
+    executor.execute(() -> ran.add("last"));
+
+    drain(pool);
+    assertEquals(Arrays.asList("first", "last"), ran);
+  }
+
+  @Test
+  void testRejectedTasksRunOnCaller() {
+    final FacetExecutor executor = new FacetExecutor(task -> {
+      throw new RejectedExecutionException();
+    });
+    final List<Thread> threads = new ArrayList<>();
+
+    executor.execute(() -> threads.add(Thread.currentThread()));
+    executor.execute(() -> threads.add(Thread.currentThread()));
+    assertEquals(2, threads.size());
+    assertSame(Thread.currentThread(), threads.get(0));
+    assertSame(Thread.currentThread(), threads.get(1));
+  }
+
+  @Test
+  void testFailedTaskDoesNotStopExecutor() {
+    final Queue<Runnable> pool = new ArrayDeque<>();
+    final FacetExecutor executor = new FacetExecutor(pool::add);
+    final List<String> ran = new ArrayList<>();
+
+    executor.execute(() -> {
+      throw new IllegalStateException("failed");
+    });
+    executor.execute(() -> ran.add("after"));
+    drain(pool);
+    assertEquals(Collections.singletonList("after"), ran);
+  }
+
+  private static void drain(final @NotNull Queue<Runnable> tasks) {
+    for(Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+      task.run();
+    }
+  }
+
+  /**
+   * A scheduler that only runs tasks when drained.
+   */
+  private static final class ManualScheduler implements FacetScheduler {
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final boolean closed;
+
+    ManualScheduler(final boolean closed) {
+      this.closed = closed;
+    }
+
+    @Override
+    public @NotNull Task schedule(final @NotNull Runnable task, final long delay, final @NotNull TimeUnit unit) {
+      if(!this.closed) {
+        this.tasks.add(task);
+      }
+      return new Task() {
+        @Override
+        public void cancel() {
+        }
+
+        @Override
+        public boolean isCancelled() {
+          return ManualScheduler.this.closed;
+        }
+      };
+    }
+
+    @Override
+    public @NotNull Task repeat(final @NotNull Runnable task, final long period, final @NotNull TimeUnit unit) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
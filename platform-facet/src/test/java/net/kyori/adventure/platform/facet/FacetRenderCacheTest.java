@@ -0,0 +1,84 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import java.util.Locale;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FacetRenderCacheTest {
+  @Test
+  void testEqualComponentsAreCached() {
+    final FacetRenderCache cache = new FacetRenderCache(16);
+    final Component first = cache.render(Component.text("hello"), Locale.US);
+    final Component second = cache.render(Component.text("hello"), Locale.US);
+    assertSame(first, second);
+    assertEquals(1, cache.hits());
+    assertEquals(1, cache.misses());
+  }
+
+  @Test
+  void testLocalesAreCachedSeparately() {
+    final FacetRenderCache cache = new FacetRenderCache(16);
+    cache.render(Component.text("hello"), Locale.US);
+    cache.render(Component.text("hello"), Locale.GERMANY);
+    assertEquals(0, cache.hits());
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  void testUsedEntriesSurviveEviction() {
+    final FacetRenderCache cache = new FacetRenderCache(2);
+    final Component used = Component.text("used");
+    cache.render(used, Locale.US);
+    cache.render(Component.text("unused"), Locale.US);
+    cache.render(used, Locale.US);
+
+    cache.render(Component.text("new"), Locale.US);
+    assertEquals(2, cache.size());
+    cache.render(used, Locale.US);
+    assertEquals(2, cache.hits());
+  }
+
+  @Test
+  void testInvalidate() {
+    final FacetRenderCache cache = new FacetRenderCache(16);
+    cache.render(Component.text("hello"), Locale.US);
+    cache.invalidate();
+    assertEquals(0, cache.size());
+
+    cache.render(Component.text("hello"), Locale.US);
+    assertEquals(0, cache.hits());
+    assertEquals(2, cache.misses());
+  }
+
+  @Test
+  void testMaximumSizeMustBePositive() {
+    assertThrows(IllegalArgumentException.class, () -> new FacetRenderCache(0));
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FacetViewerSetTest {
+  @Test
+  void testInsertionOrder() {
+    final FacetViewerSet<String> viewers = new FacetViewerSet<>(Arrays.asList("c", "a", "b"));
+    assertEquals(Arrays.asList("c", "a", "b"), new ArrayList<>(viewers));
+    assertEquals("c", viewers.first());
+
+    viewers.remove("c");
+    viewers.add("c");
+    assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(viewers));
+    assertEquals("a", viewers.first());
+  }
+
+  @Test
+  void testAddAndRemove() {
+    final FacetViewerSet<String> viewers = new FacetViewerSet<>();
+    assertNull(viewers.first());
+    assertTrue(viewers.add("a"));
+    assertFalse(viewers.add("a"));
+    assertTrue(viewers.contains("a"));
+    assertEquals(1, viewers.size());
+
+    assertTrue(viewers.remove("a"));
+    assertFalse(viewers.remove("a"));
+    assertFalse(viewers.contains("a"));
+    assertTrue(viewers.isEmpty());
+  }
+
+  @Test
+  void testIteratorIsSnapshot() {
+    final FacetViewerSet<String> viewers = new FacetViewerSet<>(Arrays.asList("a", "b"));
+    final Iterator<String> it = viewers.iterator();
+    viewers.add("c");
+    viewers.remove("a");
+
+    final List<String> iterated = new ArrayList<>();
+    it.forEachRemaining(iterated::add);
+    assertEquals(Arrays.asList("a", "b"), iterated);
+    assertEquals(Arrays.asList("b", "c"), new ArrayList<>(viewers));
+  }
+
+  @Test
+  void testIteratorRemove() {
+    final FacetViewerSet<String> viewers = new FacetViewerSet<>(Arrays.asList("a", "b", "c"));
+    for(final Iterator<String> it = viewers.iterator(); it.hasNext(); ) {
+      if(it.next().equals("b")) {
+        it.remove();
+      }
+    }
+    assertEquals(Arrays.asList("a", "c"), new ArrayList<>(viewers));
+  }
+
+  @Test
+  void testSnapshotsAreConsistentWhileChanging() throws InterruptedException {
+    final FacetViewerSet<Integer> viewers = new FacetViewerSet<>();
+    final Set<Integer> stable = new HashSet<>();
+    for(int i = 0; i < 100; i++) {
+      stable.add(i);
+      viewers.add(i);
+    }
+
+    final AtomicBoolean running = new AtomicBoolean(true);
+    final AtomicReference<String> failure = new AtomicReference<>();
+    final CountDownLatch done = new CountDownLatch(4);
+    final List<Thread> threads = new ArrayList<>();
+    for(int t = 0; t < 4; t++) {
+      final int offset = 1000 * (t + 1);
+      threads.add(new Thread(() -> {
+        try {
+          while(running.get()) {
+            for(int i = 0; i < 50; i++) {
+              viewers.add(offset + i);
+            }
+            for(int i = 0; i < 50; i++) {
+              viewers.remove(offset + i);
+            }
+          }
+        } finally {
+          done.countDown();
+        }
+      }));
+    }
+    threads.forEach(Thread::start);
+
+    try {
+      for(int i = 0; i < 10000 && failure.get() == null; i++) {
+        final Set<Integer> seen = new HashSet<>();
+        for(final Integer viewer : viewers) {
+          if(!seen.add(viewer)) failure.set("Viewer " + viewer + " was iterated twice");
+        }
+        if(!seen.containsAll(stable)) failure.set("A viewer that was never removed is missing");
+      }
+    } finally {
+      running.set(false);
+      done.await();
+    }
+    assertNull(failure.get());
+    assertEquals(stable, new HashSet<>(viewers));
+  }
+}
@@ -26,6 +26,7 @@ package net.kyori.adventure.platform.spongeapi;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.platform.facet.FacetAudienceProvider;
+import net.kyori.adventure.platform.facet.FacetScheduler;
 import net.kyori.adventure.platform.facet.Knob;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -41,11 +42,14 @@ import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.EventManager;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
 import org.spongepowered.api.event.entity.living.humanoid.player.PlayerChangeClientSettingsEvent;
+import org.spongepowered.api.event.entity.living.humanoid.player.RespawnPlayerEvent;
 import org.spongepowered.api.event.game.state.GameStartingServerEvent;
 import org.spongepowered.api.event.game.state.GameStoppedServerEvent;
 import org.spongepowered.api.event.network.ClientConnectionEvent;
 import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.text.channel.MessageReceiver;
 import org.spongepowered.api.world.Locatable;
@@ -58,6 +62,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Objects.requireNonNull;
 
@@ -85,6 +90,7 @@ final class SpongeAudiencesImpl extends FacetAudienceProvider<MessageReceiver, S
   @Inject
   SpongeAudiencesImpl(final @NotNull PluginContainer plugin, final @NotNull Game game) {
     this.game = game;
+    this.scheduler(new Scheduler(plugin, game));
     this.eventManager = game.getEventManager();
     this.eventListener = new EventListener();
     this.eventManager.registerListeners(plugin, this.eventListener);
@@ -149,6 +155,14 @@ final class SpongeAudiencesImpl extends FacetAudienceProvider<MessageReceiver, S
     return false;
   }
 
+  @Override
+  protected @Nullable String findWorld(final @NotNull MessageReceiver viewer) {
+    if(viewer instanceof Locatable) {
+      return ((Locatable) viewer).getWorld().getName();
+    }
+    return null;
+  }
+
   @Override
   protected boolean isOnServer(final @NotNull MessageReceiver viewer, final @NotNull String server) {
     return false;
@@ -182,6 +196,20 @@ final class SpongeAudiencesImpl extends FacetAudienceProvider<MessageReceiver, S
       SpongeAudiencesImpl.this.changeViewer(event.getTargetEntity(), event.getLocale());
     }
 
+    @Listener(order = Order.LAST)
+    public void onTeleport(final MoveEntityEvent.@NotNull Teleport event) {
+      final World from = event.getFromTransform().getExtent();
+      final World to = event.getToTransform().getExtent();
+      if(from != to && event.getTargetEntity() instanceof Player) {
+        SpongeAudiencesImpl.this.changeWorld((Player) event.getTargetEntity(), to.getName());
+      }
+    }
+
+    @Listener(order = Order.LAST)
+    public void onRespawn(final @NotNull RespawnPlayerEvent event) {
+      SpongeAudiencesImpl.this.changeWorld(event.getTargetEntity(), event.getToTransform().getExtent().getName());
+    }
+
     @Listener
     public void onStart(final @NotNull GameStartingServerEvent event) {
       SpongeAudiencesImpl.this.addViewer(SpongeAudiencesImpl.this.game.getServer().getConsole());
@@ -192,4 +220,47 @@ final class SpongeAudiencesImpl extends FacetAudienceProvider<MessageReceiver, S
       SpongeAudiencesImpl.this.removeViewer(SpongeAudiencesImpl.this.game.getServer().getConsole());
     }
   }
+
+  /**
+   * A scheduler that runs tasks on the main thread.
+   */
+  private static final class Scheduler implements FacetScheduler {
+    private final PluginContainer plugin;
+    private final Game game;
+
+    Scheduler(final @NotNull PluginContainer plugin, final @NotNull Game game) {
+      this.plugin = plugin;
+      this.game = game;
+    }
+
+    @Override
+    public FacetScheduler.@NotNull Task schedule(final @NotNull Runnable task, final long delay, final @NotNull TimeUnit unit) {
+      return new Scheduled(this.game.getScheduler().createTaskBuilder().execute(task).delay(delay, unit).submit(this.plugin));
+    }
+
+    @Override
+    public FacetScheduler.@NotNull Task repeat(final @NotNull Runnable task, final long period, final @NotNull TimeUnit unit) {
+      return new Scheduled(this.game.getScheduler().createTaskBuilder().execute(task).delay(period, unit).interval(period, unit).submit(this.plugin));
+    }
+  }
+
+  private static final class Scheduled implements FacetScheduler.Task {
+    private final Task task;
+    private volatile boolean cancelled;
+
+    Scheduled(final @NotNull Task task) {
+      this.task = task;
+    }
+
+    @Override
+    public void cancel() {
+      this.cancelled = true;
+      this.task.cancel();
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return this.cancelled;
+    }
+  }
 }
@@ -29,20 +29,27 @@ import com.viaversion.viaversion.api.protocol.Protocol;
 import com.viaversion.viaversion.api.protocol.packet.ClientboundPacketType;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.type.Type;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.platform.facet.Facet;
 import net.kyori.adventure.platform.facet.FacetBase;
+import net.kyori.adventure.platform.facet.FacetViewerSet;
 import net.kyori.adventure.platform.facet.Knob;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -68,6 +75,11 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
     SUPPORTED = supported && Knob.isEnabled("viaversion", true);
   }
 
+  // The connection and protocol of each viewer, resolved once and removed when its channel closes
+  private static final Map<Object, CachedConnection> CONNECTIONS = new ConcurrentHashMap<>();
+  private static volatile boolean lowestSupportedVersionComputed;
+  private static volatile int lowestSupportedVersion;
+
   private final Function<V, UserConnection> connectionFunction;
   private final int minProtocol;
 
@@ -85,23 +97,62 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
       && this.minProtocol >= 0;
   }
 
+  @Override
+  public boolean isThreadSafe() {
+    return true; // Messages are sent as packets through ViaVersion's connection
+  }
+
   @Override
   public boolean isApplicable(final @NotNull V viewer) {
     return super.isApplicable(viewer)
-      && this.minProtocol > Via.getAPI().getServerVersion().lowestSupportedVersion()
+      && this.minProtocol > lowestSupportedVersion()
       && this.findProtocol(viewer) >= this.minProtocol;
   }
 
   public @Nullable UserConnection findConnection(final @NotNull V viewer) {
-    return this.connectionFunction.apply(viewer);
+    final CachedConnection cached = this.findCachedConnection(viewer);
+    return cached == null ? null : cached.connection;
   }
 
   public int findProtocol(final @NotNull V viewer) {
-    final UserConnection connection = this.findConnection(viewer);
-    if(connection != null) {
-      return connection.getProtocolInfo().getProtocolVersion();
+    final CachedConnection cached = this.findCachedConnection(viewer);
+    return cached == null ? -1 : cached.protocol;
+  }
+
+  private @Nullable CachedConnection findCachedConnection(final @NotNull V viewer) {
+    final CachedConnection cached = CONNECTIONS.get(viewer);
+    if(cached != null) return cached;
+
+    final UserConnection connection = this.connectionFunction.apply(viewer);
+    if(connection == null) return null;
+
+    final CachedConnection created = new CachedConnection(connection);
+    final Channel channel = connection.getChannel();
+    if(channel == null) return created; // Without a channel, there is nothing to tell when the viewer quits
+
+    final CachedConnection existing = CONNECTIONS.putIfAbsent(viewer, created);
+    if(existing != null) return existing;
+    // Called immediately if the channel has already closed
+    channel.closeFuture().addListener(future -> CONNECTIONS.remove(viewer, created));
+    return created;
+  }
+
+  private static int lowestSupportedVersion() {
+    if(!lowestSupportedVersionComputed) {
+      lowestSupportedVersion = Via.getAPI().getServerVersion().lowestSupportedVersion();
+      lowestSupportedVersionComputed = true;
+    }
+    return lowestSupportedVersion;
+  }
+
+  private static final class CachedConnection {
+    private final UserConnection connection;
+    private final int protocol;
+
+    CachedConnection(final @NotNull UserConnection connection) {
+      this.connection = connection;
+      this.protocol = connection.getProtocolInfo().getProtocolVersion();
     }
-    return -1;
   }
 
   @NotNull
@@ -115,6 +166,11 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
     }
   }
 
+  @Override
+  public int protocolBucket(final @NotNull V viewer) {
+    return this.findProtocol(viewer) >= PROTOCOL_HEX_COLOR ? PROTOCOL_HEX_COLOR : PROTOCOL_JSON;
+  }
+
   public static class ProtocolBased<V> extends ViaFacet<V> {
     private final Class<? extends Protocol<?, ?, ?, ?>> protocolClass;
     private final Class<? extends ClientboundPacketType> packetClass;
@@ -160,6 +216,16 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
       return PacketWrapper.create(this.packetId, null, this.findConnection(viewer));
     }
 
+    public PacketWrapper createPacket(final @Nullable UserConnection connection, final @NotNull ByteBuf payload) {
+      // The payload is read like an incoming packet, so each packet needs its own reader index
+      return PacketWrapper.create(this.packetId, payload.duplicate(), connection);
+    }
+
+    protected static @NotNull ByteBuf createPayload() {
+      // Payloads are shared by many packets, so they must survive being released by any one of them
+      return Unpooled.unreleasableBuffer(Unpooled.buffer());
+    }
+
     public void sendPacket(final @NotNull PacketWrapper packet) {
       if(packet.user() == null) return;
       try {
@@ -168,6 +234,22 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
         logError(error, "Failed to send ViaVersion packet: %s %s", packet.user(), packet);
       }
     }
+
+    public void sendPackets(final @NotNull List<PacketWrapper> packets) {
+      if(packets.isEmpty()) return;
+
+      // Send every packet in one task on the event loop, instead of one task per packet
+      final UserConnection user = packets.get(0).user();
+      final Channel channel = user == null ? null : user.getChannel();
+      if(packets.size() > 1 && channel != null && !channel.eventLoop().inEventLoop()) {
+        channel.eventLoop().execute(() -> this.sendPackets(packets));
+        return;
+      }
+
+      for(final PacketWrapper packet : packets) {
+        this.sendPacket(packet);
+      }
+    }
   }
 
   public static class Chat<V> extends ProtocolBased<V> implements ChatPacket<V, String> {
@@ -227,29 +309,43 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
     @NotNull
     @Override
     public Consumer<V> createTitle(final @Nullable String title, final @Nullable String subTitle, final int inTicks, final int stayTicks, final int outTicks) {
-      return viewer -> {
+      // Encode each packet once, then every viewer reads a copy of the same payload
+      final List<ByteBuf> payloads = new ArrayList<>(3);
+      try {
         if(inTicks > -1 || stayTicks > -1 || outTicks > -1) {
-          final PacketWrapper packet = this.createPacket(viewer);
-          packet.write(Type.VAR_INT, ACTION_TIMES);
-          packet.write(Type.INT, inTicks);
-          packet.write(Type.INT, stayTicks);
-          packet.write(Type.INT, outTicks);
-          this.sendPacket(packet);
+          final ByteBuf payload = createPayload();
+          Type.VAR_INT.write(payload, ACTION_TIMES);
+          Type.INT.write(payload, inTicks);
+          Type.INT.write(payload, stayTicks);
+          Type.INT.write(payload, outTicks);
+          payloads.add(payload);
         }
 
         if(subTitle != null) {
-          final PacketWrapper packet = this.createPacket(viewer);
-          packet.write(Type.VAR_INT, ACTION_SUBTITLE);
-          packet.write(Type.STRING, subTitle);
-          this.sendPacket(packet);
+          final ByteBuf payload = createPayload();
+          Type.VAR_INT.write(payload, ACTION_SUBTITLE);
+          Type.STRING.write(payload, subTitle);
+          payloads.add(payload);
         }
 
         if(title != null) {
-          final PacketWrapper packet = this.createPacket(viewer);
-          packet.write(Type.VAR_INT, ACTION_TITLE);
-          packet.write(Type.STRING, title);
-          this.sendPacket(packet);
+          final ByteBuf payload = createPayload();
+          Type.VAR_INT.write(payload, ACTION_TITLE);
+          Type.STRING.write(payload, title);
+          payloads.add(payload);
+        }
+      } catch(final Throwable error) {
+        logError(error, "Failed to encode ViaVersion title: %s %s", title, subTitle);
+        payloads.clear();
+      }
+
+      return viewer -> {
+        final UserConnection connection = this.findConnection(viewer);
+        final List<PacketWrapper> packets = new ArrayList<>(payloads.size());
+        for(final ByteBuf payload : payloads) {
+          packets.add(this.createPacket(connection, payload));
         }
+        this.sendPackets(packets);
       };
     }
 
@@ -284,7 +380,12 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
 
     private BossBar(final @NotNull String fromProtocol, final @NotNull String toProtocol, final @NotNull Class<? extends V> viewerClass, final @NotNull Function<V, UserConnection> connectionFunction, final Collection<V> viewers) {
       super(fromProtocol, toProtocol, PROTOCOL_BOSS_BAR, "BOSSBAR", viewerClass, connectionFunction);
-      this.viewers = new CopyOnWriteArraySet<>(viewers);
+      this.viewers = new FacetViewerSet<>(viewers);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+      return false; // Its state is changed from listener callbacks, and read while sending
     }
 
     public static class Builder<V> extends ViaFacet<V> implements Facet.BossBar.Builder<V, Facet.BossBar<V>> {
@@ -292,6 +393,11 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
         super(viewerClass, connectionFunction, PROTOCOL_HEX_COLOR);
       }
 
+      @Override
+      public boolean isThreadSafe() {
+        return false; // Boss bars change their state from listener callbacks
+      }
+
       @Override
       public Facet.@NotNull BossBar<V> createBossBar(final @NotNull Collection<V> viewer) {
         return new ViaFacet.BossBar<>("1_16", "1_15_2", this.viewerClass, this::findConnection, viewer);
@@ -303,6 +409,11 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
         super(viewerClass, connectionFunction, PROTOCOL_BOSS_BAR);
       }
 
+      @Override
+      public boolean isThreadSafe() {
+        return false; // Boss bars change their state from listener callbacks
+      }
+
       @Override
       public Facet.@NotNull BossBar<V> createBossBar(final @NotNull Collection<V> viewer) {
         return new ViaFacet.BossBar<>("1_9", "1_8", this.viewerClass, this::findConnection, viewer);
@@ -0,0 +1,355 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.bungeecord;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.nbt.api.BinaryTagHolder;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentBuilder;
+import net.kyori.adventure.text.KeybindComponent;
+import net.kyori.adventure.text.ScoreComponent;
+import net.kyori.adventure.text.SelectorComponent;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.md_5.bungee.api.ChatColor;
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.ItemTag;
+import net.md_5.bungee.api.chat.hover.content.Content;
+import net.md_5.bungee.api.chat.hover.content.Entity;
+import net.md_5.bungee.api.chat.hover.content.Item;
+import net.md_5.bungee.api.chat.hover.content.Text;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Converts between components and BungeeCord's {@link BaseComponent} trees, without writing JSON.
+ *
+ * <p>Content that BungeeCord cannot represent, such as NBT components, makes a conversion return
+ * {@code null}, and the caller should fall back to JSON.</p>
+ */
+final class BaseComponentConverter {
+  private static final Map<NamedTextColor, ChatColor> COLORS = new HashMap<>();
+  // Only actions known on both sides, since either may be older than the other
+  private static final Map<ClickEvent.Action, net.md_5.bungee.api.chat.ClickEvent.Action> CLICK_ACTIONS = new EnumMap<>(ClickEvent.Action.class);
+  private static final Map<net.md_5.bungee.api.chat.ClickEvent.Action, ClickEvent.Action> BUNGEE_CLICK_ACTIONS = new EnumMap<>(net.md_5.bungee.api.chat.ClickEvent.Action.class);
+
+  static {
+    for(final NamedTextColor color : NamedTextColor.NAMES.values()) {
+      COLORS.put(color, ChatColor.of(NamedTextColor.NAMES.key(color)));
+    }
+    final Map<String, ClickEvent.Action> actions = new HashMap<>();
+    for(final ClickEvent.Action action : ClickEvent.Action.values()) {
+      actions.put(action.name(), action);
+    }
+    for(final net.md_5.bungee.api.chat.ClickEvent.Action bungeeAction : net.md_5.bungee.api.chat.ClickEvent.Action.values()) {
+      final ClickEvent.Action action = actions.get(bungeeAction.name());
+      if(action != null) {
+        CLICK_ACTIONS.put(action, bungeeAction);
+        BUNGEE_CLICK_ACTIONS.put(bungeeAction, action);
+      }
+    }
+  }
+
+  private final boolean downsampleColors;
+  private final boolean legacyHoverEvents;
+
+  /**
+   * Creates a converter.
+   *
+   * @param downsampleColors if hex colors are replaced by the nearest named color
+   * @param legacyHoverEvents if text hover events are written in the legacy format
+   */
+  BaseComponentConverter(final boolean downsampleColors, final boolean legacyHoverEvents) {
+    this.downsampleColors = downsampleColors;
+    this.legacyHoverEvents = legacyHoverEvents;
+  }
+
+  /**
+   * Converts a component to a BungeeCord component.
+   *
+   * @param component a component
+   * @return a BungeeCord component, or {@code null} if it cannot be converted
+   */
+  @SuppressWarnings("deprecation") // Score values are deprecated, but still sent by the server
+  @Nullable BaseComponent serialize(final @NotNull Component component) {
+    final BaseComponent result;
+    if(component instanceof TextComponent) {
+      result = new net.md_5.bungee.api.chat.TextComponent(((TextComponent) component).content());
+    } else if(component instanceof TranslatableComponent) {
+      final TranslatableComponent translatable = (TranslatableComponent) component;
+      final net.md_5.bungee.api.chat.TranslatableComponent converted = new net.md_5.bungee.api.chat.TranslatableComponent(translatable.key());
+      if(!translatable.args().isEmpty()) {
+        final List<BaseComponent> with = new ArrayList<>(translatable.args().size());
+        for(final Component arg : translatable.args()) {
+          final BaseComponent convertedArg = this.serialize(arg);
+          if(convertedArg == null) return null;
+          with.add(convertedArg);
+        }
+        converted.setWith(with);
+      }
+      result = converted;
+    } else if(component instanceof KeybindComponent) {
+      result = new net.md_5.bungee.api.chat.KeybindComponent(((KeybindComponent) component).keybind());
+    } else if(component instanceof ScoreComponent) {
+      final ScoreComponent score = (ScoreComponent) component;
+      result = new net.md_5.bungee.api.chat.ScoreComponent(score.name(), score.objective(), score.value());
+    } else if(component instanceof SelectorComponent) {
+      final SelectorComponent selector = (SelectorComponent) component;
+      if(selector.separator() != null) return null; // Not supported by BungeeCord
+      result = new net.md_5.bungee.api.chat.SelectorComponent(selector.pattern());
+    } else {
+      return null;
+    }
+
+    if(!this.serializeStyle(component.style(), result)) return null;
+
+    for(final Component child : component.children()) {
+      final BaseComponent convertedChild = this.serialize(child);
+      if(convertedChild == null) return null;
+      result.addExtra(convertedChild);
+    }
+    return result;
+  }
+
+  private boolean serializeStyle(final @NotNull Style style, final @NotNull BaseComponent result) {
+    final TextColor color = style.color();
+    if(color != null) {
+      result.setColor(this.serializeColor(color));
+    }
+    result.setObfuscated(serializeDecoration(style.decoration(TextDecoration.OBFUSCATED)));
+    result.setBold(serializeDecoration(style.decoration(TextDecoration.BOLD)));
+    result.setStrikethrough(serializeDecoration(style.decoration(TextDecoration.STRIKETHROUGH)));
+    result.setUnderlined(serializeDecoration(style.decoration(TextDecoration.UNDERLINED)));
+    result.setItalic(serializeDecoration(style.decoration(TextDecoration.ITALIC)));
+    if(style.font() != null) {
+      result.setFont(style.font().asString());
+    }
+    result.setInsertion(style.insertion());
+
+    final ClickEvent click = style.clickEvent();
+    if(click != null) {
+      final net.md_5.bungee.api.chat.ClickEvent.Action action = CLICK_ACTIONS.get(click.action());
+      if(action == null) return false; // Not supported by this BungeeCord version
+      result.setClickEvent(new net.md_5.bungee.api.chat.ClickEvent(action, click.value()));
+    }
+
+    final HoverEvent<?> hover = style.hoverEvent();
+    if(hover != null) {
+      final net.md_5.bungee.api.chat.HoverEvent converted = this.serializeHover(hover);
+      if(converted == null) return false;
+      result.setHoverEvent(converted);
+    }
+    return true;
+  }
+
+  @SuppressWarnings("deprecation") // Legacy hover events are still used before 1.16
+  private net.md_5.bungee.api.chat.@Nullable HoverEvent serializeHover(final @NotNull HoverEvent<?> hover) {
+    if(hover.action() == HoverEvent.Action.SHOW_TEXT) {
+      final BaseComponent text = this.serialize((Component) hover.value());
+      if(text == null) return null;
+      if(this.legacyHoverEvents) {
+        return new net.md_5.bungee.api.chat.HoverEvent(net.md_5.bungee.api.chat.HoverEvent.Action.SHOW_TEXT, new BaseComponent[]{text});
+      }
+      return new net.md_5.bungee.api.chat.HoverEvent(net.md_5.bungee.api.chat.HoverEvent.Action.SHOW_TEXT, new Text(new BaseComponent[]{text}));
+    } else if(this.legacyHoverEvents) {
+      return null; // Legacy items and entities are written as SNBT, which is left to JSON
+    } else if(hover.action() == HoverEvent.Action.SHOW_ITEM) {
+      final HoverEvent.ShowItem item = (HoverEvent.ShowItem) hover.value();
+      final BinaryTagHolder nbt = item.nbt();
+      return new net.md_5.bungee.api.chat.HoverEvent(net.md_5.bungee.api.chat.HoverEvent.Action.SHOW_ITEM, new Item(item.item().asString(), item.count(), nbt == null ? null : ItemTag.ofNbt(nbt.string())));
+    } else if(hover.action() == HoverEvent.Action.SHOW_ENTITY) {
+      final HoverEvent.ShowEntity entity = (HoverEvent.ShowEntity) hover.value();
+      BaseComponent name = null;
+      if(entity.name() != null) {
+        name = this.serialize(entity.name());
+        if(name == null) return null;
+      }
+      return new net.md_5.bungee.api.chat.HoverEvent(net.md_5.bungee.api.chat.HoverEvent.Action.SHOW_ENTITY, new Entity(entity.type().asString(), entity.id().toString(), name));
+    }
+    return null;
+  }
+
+  private @NotNull ChatColor serializeColor(final @NotNull TextColor color) {
+    if(color instanceof NamedTextColor) {
+      return COLORS.get(color);
+    } else if(this.downsampleColors) {
+      return COLORS.get(NamedTextColor.nearestTo(color));
+    }
+    return ChatColor.of(color.asHexString());
+  }
+
+  private static @Nullable Boolean serializeDecoration(final TextDecoration.@NotNull State state) {
+    return state == TextDecoration.State.NOT_SET ? null : state == TextDecoration.State.TRUE;
+  }
+
+  /**
+   * Converts BungeeCord components to a component.
+   *
+   * @param input BungeeCord components
+   * @return a component, or {@code null} if they cannot be converted
+   */
+  @Nullable Component deserialize(final @NotNull BaseComponent@NotNull[] input) {
+    if(input.length == 1) return this.deserialize(input[0]);
+
+    // Several components are joined as the children of an empty text component
+    final TextComponent.Builder builder = Component.text();
+    for(final BaseComponent component : input) {
+      final Component converted = this.deserialize(component);
+      if(converted == null) return null;
+      builder.append(converted);
+    }
+    return builder.build();
+  }
+
+  @SuppressWarnings("deprecation") // Score values are deprecated, but still sent by the server
+  private @Nullable Component deserialize(final @NotNull BaseComponent input) {
+    if(input instanceof BungeeComponentSerializer.AdapterComponent) {
+      return ((BungeeComponentSerializer.AdapterComponent) input).component();
+    }
+
+    final ComponentBuilder<?, ?> builder;
+    if(input instanceof net.md_5.bungee.api.chat.TextComponent) {
+      builder = Component.text().content(((net.md_5.bungee.api.chat.TextComponent) input).getText());
+    } else if(input instanceof net.md_5.bungee.api.chat.TranslatableComponent) {
+      final net.md_5.bungee.api.chat.TranslatableComponent translatable = (net.md_5.bungee.api.chat.TranslatableComponent) input;
+      final List<Component> args = new ArrayList<>();
+      if(translatable.getWith() != null) {
+        for(final BaseComponent arg : translatable.getWith()) {
+          final Component convertedArg = this.deserialize(arg);
+          if(convertedArg == null) return null;
+          args.add(convertedArg);
+        }
+      }
+      builder = Component.translatable().key(translatable.getTranslate()).args(args);
+    } else if(input instanceof net.md_5.bungee.api.chat.KeybindComponent) {
+      builder = Component.keybind().keybind(((net.md_5.bungee.api.chat.KeybindComponent) input).getKeybind());
+    } else if(input instanceof net.md_5.bungee.api.chat.ScoreComponent) {
+      final net.md_5.bungee.api.chat.ScoreComponent score = (net.md_5.bungee.api.chat.ScoreComponent) input;
+      builder = Component.score().name(score.getName()).objective(score.getObjective()).value(score.getValue());
+    } else if(input instanceof net.md_5.bungee.api.chat.SelectorComponent) {
+      builder = Component.selector().pattern(((net.md_5.bungee.api.chat.SelectorComponent) input).getSelector());
+    } else {
+      return null;
+    }
+
+    final Style style = this.deserializeStyle(input);
+    if(style == null) return null;
+    builder.style(style);
+
+    if(input.getExtra() != null) {
+      for(final BaseComponent child : input.getExtra()) {
+        final Component convertedChild = this.deserialize(child);
+        if(convertedChild == null) return null;
+        builder.append(convertedChild);
+      }
+    }
+    return builder.build();
+  }
+
+  private @Nullable Style deserializeStyle(final @NotNull BaseComponent input) {
+    final Style.Builder style = Style.style();
+    if(input.getColorRaw() != null) {
+      final TextColor color = deserializeColor(input.getColorRaw());
+      if(color == null) return null;
+      style.color(color);
+    }
+    style.decoration(TextDecoration.OBFUSCATED, deserializeDecoration(input.isObfuscatedRaw()));
+    style.decoration(TextDecoration.BOLD, deserializeDecoration(input.isBoldRaw()));
+    style.decoration(TextDecoration.STRIKETHROUGH, deserializeDecoration(input.isStrikethroughRaw()));
+    style.decoration(TextDecoration.UNDERLINED, deserializeDecoration(input.isUnderlinedRaw()));
+    style.decoration(TextDecoration.ITALIC, deserializeDecoration(input.isItalicRaw()));
+    if(input.getFontRaw() != null) {
+      style.font(Key.key(input.getFontRaw()));
+    }
+    style.insertion(input.getInsertion());
+
+    final net.md_5.bungee.api.chat.ClickEvent click = input.getClickEvent();
+    if(click != null) {
+      final ClickEvent.Action action = BUNGEE_CLICK_ACTIONS.get(click.getAction());
+      if(action == null) return null; // Not supported by this Adventure version
+      style.clickEvent(ClickEvent.clickEvent(action, click.getValue()));
+    }
+
+    final net.md_5.bungee.api.chat.HoverEvent hover = input.getHoverEvent();
+    if(hover != null) {
+      final HoverEvent<?> converted = this.deserializeHover(hover);
+      if(converted == null) return null;
+      style.hoverEvent(converted);
+    }
+    return style.build();
+  }
+
+  private @Nullable HoverEvent<?> deserializeHover(final net.md_5.bungee.api.chat.@NotNull HoverEvent hover) {
+    if(hover.getContents().size() != 1) return null;
+    final Content content = hover.getContents().get(0);
+    if(hover.getAction() == net.md_5.bungee.api.chat.HoverEvent.Action.SHOW_TEXT && content instanceof Text) {
+      final Object value = ((Text) content).getValue();
+      if(value instanceof String) {
+        return HoverEvent.showText(Component.text((String) value));
+      } else if(value instanceof BaseComponent[]) {
+        final Component text = this.deserialize((BaseComponent[]) value);
+        return text == null ? null : HoverEvent.showText(text);
+      }
+    } else if(hover.getAction() == net.md_5.bungee.api.chat.HoverEvent.Action.SHOW_ITEM && content instanceof Item) {
+      final Item item = (Item) content;
+      if(item.getId() == null) return null;
+      final BinaryTagHolder nbt = item.getTag() == null || item.getTag().getNbt() == null ? null : BinaryTagHolder.of(item.getTag().getNbt());
+      return HoverEvent.showItem(HoverEvent.ShowItem.of(Key.key(item.getId()), item.getCount() < 0 ? 1 : item.getCount(), nbt));
+    } else if(hover.getAction() == net.md_5.bungee.api.chat.HoverEvent.Action.SHOW_ENTITY && content instanceof Entity) {
+      final Entity entity = (Entity) content;
+      if(entity.getType() == null || entity.getId() == null) return null;
+      Component name = null;
+      if(entity.getName() != null) {
+        name = this.deserialize(entity.getName());
+        if(name == null) return null;
+      }
+      return HoverEvent.showEntity(HoverEvent.ShowEntity.of(Key.key(entity.getType()), UUID.fromString(entity.getId()), name));
+    }
+    return null;
+  }
+
+  private static @Nullable TextColor deserializeColor(final @NotNull ChatColor color) {
+    final String name = color.getName();
+    if(name.startsWith("#")) {
+      return TextColor.fromHexString(name);
+    }
+    return NamedTextColor.NAMES.value(name);
+  }
+
+  private static TextDecoration.@NotNull State deserializeDecoration(final @Nullable Boolean value) {
+    return value == null ? TextDecoration.State.NOT_SET : TextDecoration.State.byBoolean(value);
+  }
+}
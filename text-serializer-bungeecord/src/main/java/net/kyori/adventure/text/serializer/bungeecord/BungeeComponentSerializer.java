@@ -24,8 +24,11 @@
 package net.kyori.adventure.text.serializer.bungeecord;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.ComponentSerializer;
@@ -33,7 +36,9 @@ import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import net.md_5.bungee.api.chat.BaseComponent;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import static java.lang.invoke.MethodType.methodType;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -43,13 +48,14 @@ import static java.util.Objects.requireNonNull;
  */
 public final class BungeeComponentSerializer implements ComponentSerializer<Component, Component, BaseComponent[]> {
   private static boolean SUPPORTED = true;
+  private static final @Nullable MethodHandle JSON_WRITER_JSON_VALUE = findJsonValue(); // (JsonWriter, String) -> void
 
   static {
     bind();
   }
 
-  private static final BungeeComponentSerializer MODERN = new BungeeComponentSerializer(GsonComponentSerializer.gson(), LegacyComponentSerializer.builder().hexColors().useUnusualXRepeatedCharacterHexFormat().build());
-  private static final BungeeComponentSerializer PRE_1_16 = new BungeeComponentSerializer(GsonComponentSerializer.builder().downsampleColors().emitLegacyHoverEvent().build(), LegacyComponentSerializer.legacySection());
+  private static final BungeeComponentSerializer MODERN = new BungeeComponentSerializer(GsonComponentSerializer.gson(), LegacyComponentSerializer.builder().hexColors().useUnusualXRepeatedCharacterHexFormat().build(), new BaseComponentConverter(false, false));
+  private static final BungeeComponentSerializer PRE_1_16 = new BungeeComponentSerializer(GsonComponentSerializer.builder().downsampleColors().emitLegacyHoverEvent().build(), LegacyComponentSerializer.legacySection(), new BaseComponentConverter(true, true));
 
   /**
    * Gets whether the component serializer has native support.
@@ -93,7 +99,7 @@ public final class BungeeComponentSerializer implements ComponentSerializer<Comp
    */
   public static BungeeComponentSerializer of(final GsonComponentSerializer serializer, final LegacyComponentSerializer legacySerializer) {
     if(serializer == null || legacySerializer == null) return null;
-    return new BungeeComponentSerializer(serializer, legacySerializer);
+    return new BungeeComponentSerializer(serializer, legacySerializer, null);
   }
 
   /**
@@ -117,10 +123,22 @@ public final class BungeeComponentSerializer implements ComponentSerializer<Comp
 
   private final GsonComponentSerializer serializer;
   private final LegacyComponentSerializer legacySerializer;
+  private final @Nullable BaseComponentConverter converter; // Only for built-in serializers, since it must match their options
 
-  private BungeeComponentSerializer(final GsonComponentSerializer serializer, final LegacyComponentSerializer legacySerializer) {
+  private BungeeComponentSerializer(final GsonComponentSerializer serializer, final LegacyComponentSerializer legacySerializer, final @Nullable BaseComponentConverter converter) {
     this.serializer = serializer;
     this.legacySerializer = legacySerializer;
+    this.converter = converter;
+  }
+
+  private static @Nullable MethodHandle findJsonValue() {
+    try {
+      // Added in Gson 2.4, older BungeeCord versions ship Gson 2.2.4
+      return MethodHandles.publicLookup().findVirtual(JsonWriter.class, "jsonValue", methodType(JsonWriter.class, String.class))
+        .asType(methodType(void.class, JsonWriter.class, String.class));
+    } catch(final NoSuchMethodException | IllegalAccessException error) {
+      return null;
+    }
   }
 
   private static void bind() {
@@ -138,9 +156,12 @@ public final class BungeeComponentSerializer implements ComponentSerializer<Comp
 
     if(input.length == 1 && input[0] instanceof AdapterComponent) {
       return ((AdapterComponent) input[0]).component;
-    } else {
-      return this.serializer.deserialize(net.md_5.bungee.chat.ComponentSerializer.toString(input));
     }
+    if(this.converter != null) {
+      final Component converted = this.converter.deserialize(input);
+      if(converted != null) return converted;
+    }
+    return this.serializer.deserialize(net.md_5.bungee.chat.ComponentSerializer.toString(input));
   }
 
   @Override
@@ -149,14 +170,20 @@ public final class BungeeComponentSerializer implements ComponentSerializer<Comp
 
     if(SUPPORTED) {
       return new BaseComponent[] {new AdapterComponent(component)};
-    } else {
-      return net.md_5.bungee.chat.ComponentSerializer.parse(this.serializer.serialize(component));
     }
+    if(this.converter != null) {
+      final BaseComponent converted = this.converter.serialize(component);
+      if(converted != null) return new BaseComponent[] {converted};
+    }
+    return net.md_5.bungee.chat.ComponentSerializer.parse(this.serializer.serialize(component));
   }
 
   class AdapterComponent extends BaseComponent implements SelfSerializable {
     private final Component component;
     private volatile String legacy;
+    // The same component is written for every player in a broadcast, so the JSON is only created once
+    private volatile String json;
+    private volatile JsonElement tree;
 
     @SuppressWarnings("deprecation") // TODO: when/if bungee removes this, ???
     AdapterComponent(final Component component) {
@@ -171,6 +198,10 @@ public final class BungeeComponentSerializer implements ComponentSerializer<Comp
       return this.legacy;
     }
 
+    @NotNull Component component() {
+      return this.component;
+    }
+
     @Override
     public @NotNull BaseComponent duplicate() {
       return this;
@@ -178,7 +209,23 @@ public final class BungeeComponentSerializer implements ComponentSerializer<Comp
 
     @Override
     public void write(final JsonWriter out) throws IOException {
-      BungeeComponentSerializer.this.serializer.serializer().getAdapter(Component.class).write(out, this.component);
+      if(JSON_WRITER_JSON_VALUE != null) {
+        if(this.json == null) {
+          this.json = BungeeComponentSerializer.this.serializer.serializer().getAdapter(Component.class).toJson(this.component);
+        }
+        try {
+          JSON_WRITER_JSON_VALUE.invokeExact(out, this.json);
+        } catch(final IOException | RuntimeException | Error error) {
+          throw error;
+        } catch(final Throwable error) {
+          throw new IOException(error);
+        }
+      } else {
+        if(this.tree == null) {
+          this.tree = BungeeComponentSerializer.this.serializer.serializer().getAdapter(Component.class).toJsonTree(this.component);
+        }
+        BungeeComponentSerializer.this.serializer.serializer().toJson(this.tree, out);
+      }
     }
   }
 }
@@ -0,0 +1,252 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.craftbukkit;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static net.kyori.adventure.text.serializer.craftbukkit.BukkitComponentSerializer.gson;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findBiConsumer;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findBiFunction;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findClass;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findConstructor;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findFunction;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findMcClassName;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findNmsClassName;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.lookup;
+
+/**
+ * Builds {@code IChatBaseComponent}s directly from text and translatable components.
+ *
+ * <p>Components are created through reflected constructors and setters, instead of
+ * serializing the component to a json tree and deserializing it with Minecraft's {@link Gson}.
+ * Only styles still go through json. On 1.16 and later, styles are immutable and each converted style
+ * is cached. Before 1.16, every styled component converts its style through json again.</p>
+ */
+final class MinecraftComponentBuilder {
+  private static final @Nullable Class<?> CLASS_TEXT_COMPONENT = findClass(
+    findNmsClassName("ChatComponentText"),
+    findMcClassName("network.chat.ChatComponentText"),
+    findMcClassName("network.chat.TextComponent")
+  );
+  private static final @Nullable Class<?> CLASS_TRANSLATABLE_COMPONENT = findClass(
+    findNmsClassName("ChatMessage"),
+    findMcClassName("network.chat.ChatMessage"),
+    findMcClassName("network.chat.TranslatableComponent")
+  );
+  private static final @Nullable Class<?> CLASS_CHAT_MODIFIER = findClass(
+    findNmsClassName("ChatModifier"),
+    findMcClassName("network.chat.ChatModifier"),
+    findMcClassName("network.chat.Style")
+  );
+  private static final boolean IMMUTABLE_STYLES = findClass(
+    findNmsClassName("IChatMutableComponent"),
+    findMcClassName("network.chat.IChatMutableComponent"),
+    findMcClassName("network.chat.MutableComponent")
+  ) != null; // Before 1.16, styles are mutable and linked to their parent style
+  private static final int MAXIMUM_CACHED_STYLES = 256;
+
+  private final Gson gson;
+  private final Class<?> chatModifierClass;
+  private final boolean immutableStyles;
+  private final Function<Object, Object> textConstructor; // (String) -> ChatComponentText
+  private final BiFunction<Object, Object, Object> translatableConstructor; // (String, Object[]) -> ChatMessage
+  private final BiConsumer<Object, Object> addSibling; // (IChatBaseComponent, IChatBaseComponent) -> void
+  private final BiConsumer<Object, Object> setStyle; // (IChatBaseComponent, ChatModifier) -> void
+  private final Map<Style, Object> styles = new ConcurrentHashMap<>();
+
+  private MinecraftComponentBuilder(final @NotNull Gson gson, final @NotNull Class<?> chatModifierClass, final boolean immutableStyles, final @NotNull Function<Object, Object> textConstructor, final @NotNull BiFunction<Object, Object, Object> translatableConstructor, final @NotNull BiConsumer<Object, Object> addSibling, final @NotNull BiConsumer<Object, Object> setStyle) {
+    this.gson = gson;
+    this.chatModifierClass = chatModifierClass;
+    this.immutableStyles = immutableStyles;
+    this.textConstructor = textConstructor;
+    this.translatableConstructor = translatableConstructor;
+    this.addSibling = addSibling;
+    this.setStyle = setStyle;
+  }
+
+  /**
+   * Discovers the constructors and setters needed to build components.
+   *
+   * <p>The discovered members are verified by building a sample component both directly
+   * and through json, so a builder is only returned if both produce equal components.</p>
+   *
+   * @param chatComponentClass the {@code IChatBaseComponent} class
+   * @param gson Minecraft's gson instance
+   * @param fallback the json serializer
+   * @return a builder, or {@code null} if not supported
+   */
+  static @Nullable MinecraftComponentBuilder create(final @Nullable Class<?> chatComponentClass, final @Nullable Gson gson, final @NotNull Function<Component, Object> fallback) {
+    return create(chatComponentClass, CLASS_TEXT_COMPONENT, CLASS_TRANSLATABLE_COMPONENT, CLASS_CHAT_MODIFIER, IMMUTABLE_STYLES, gson, fallback);
+  }
+
+  /**
+   * Discovers the constructors and setters needed to build components from the given classes.
+   *
+   * <p>Benchmarks use this with stand-ins for Minecraft's classes.</p>
+   *
+   * @param chatComponentClass the {@code IChatBaseComponent} class
+   * @param textComponentClass the {@code ChatComponentText} class
+   * @param translatableComponentClass the {@code ChatMessage} class
+   * @param chatModifierClass the {@code ChatModifier} class
+   * @param immutableStyles if styles are immutable, and can be cached
+   * @param gson Minecraft's gson instance
+   * @param fallback the json serializer
+   * @return a builder, or {@code null} if not supported
+   */
+  static @Nullable MinecraftComponentBuilder create(final @Nullable Class<?> chatComponentClass, final @Nullable Class<?> textComponentClass, final @Nullable Class<?> translatableComponentClass, final @Nullable Class<?> chatModifierClass, final boolean immutableStyles, final @Nullable Gson gson, final @NotNull Function<Component, Object> fallback) {
+    if(chatComponentClass == null || gson == null || textComponentClass == null || translatableComponentClass == null || chatModifierClass == null) return null;
+
+    final Function<Object, Object> textConstructor = findFunction(findConstructor(textComponentClass, String.class));
+    final BiFunction<Object, Object, Object> translatableConstructor = findBiFunction(findConstructor(translatableComponentClass, String.class, Object[].class));
+    final BiConsumer<Object, Object> addSibling = findBiConsumer(findSetter(textComponentClass, chatComponentClass, chatComponentClass, "addSibling", "append"));
+    final BiConsumer<Object, Object> setStyle = findBiConsumer(findSetter(textComponentClass, chatComponentClass, chatModifierClass, "setChatModifier", "setStyle"));
+    if(textConstructor == null || translatableConstructor == null || addSibling == null || setStyle == null) return null;
+
+    final MinecraftComponentBuilder builder = new MinecraftComponentBuilder(gson, chatModifierClass, immutableStyles, textConstructor, translatableConstructor, addSibling, setStyle);
+    try {
+      final Component sample = Component.text()
+        .content("adventure")
+        .color(NamedTextColor.GOLD)
+        .decoration(TextDecoration.BOLD, true)
+        .clickEvent(ClickEvent.runCommand("/adventure"))
+        .hoverEvent(HoverEvent.showText(Component.text("platform")))
+        .append(Component.translatable("chat.type.text", Component.text("a"), Component.text("b", NamedTextColor.RED)))
+        .append(Component.text(" "))
+        .build();
+      final Object built = builder.build(sample);
+      if(built == null || !built.equals(fallback.apply(sample))) return null;
+    } catch(final Throwable error) {
+      return null;
+    }
+    return builder;
+  }
+
+  /**
+   * Builds a component.
+   *
+   * @param component a component
+   * @return a {@code IChatBaseComponent}, or {@code null} if the component cannot be built directly
+   */
+  @Nullable Object build(final @NotNull Component component) {
+    final Object result;
+    if(component instanceof TextComponent) {
+      result = this.textConstructor.apply(((TextComponent) component).content());
+    } else if(component instanceof TranslatableComponent) {
+      final List<Component> args = ((TranslatableComponent) component).args();
+      final Object[] builtArgs = new Object[args.size()];
+      for(int i = 0; i < builtArgs.length; i++) {
+        final Component arg = args.get(i);
+        if(arg instanceof TextComponent && arg.children().isEmpty() && arg.style().isEmpty()) {
+          builtArgs[i] = ((TextComponent) arg).content(); // Matches how Minecraft reads arguments from json
+        } else if((builtArgs[i] = this.build(arg)) == null) {
+          return null;
+        }
+      }
+      result = this.translatableConstructor.apply(((TranslatableComponent) component).key(), builtArgs);
+    } else {
+      return null; // Keybind, score, selector and nbt components are left to json
+    }
+
+    for(final Component child : component.children()) {
+      final Object builtChild = this.build(child);
+      if(builtChild == null) return null;
+      this.addSibling.accept(result, builtChild);
+    }
+
+    final Style style = component.style();
+    if(!style.isEmpty()) {
+      this.setStyle.accept(result, this.style(style));
+    }
+    return result;
+  }
+
+  private @NotNull Object style(final @NotNull Style style) {
+    // Mutable styles are linked to their parent style when added, so they cannot be shared
+    if(!this.immutableStyles) return this.gson.fromJson(gson().serializer().toJsonTree(style, Style.class), this.chatModifierClass);
+
+    Object modifier = this.styles.get(style);
+    if(modifier == null) {
+      final JsonElement json = gson().serializer().toJsonTree(style, Style.class);
+      modifier = this.gson.fromJson(json, this.chatModifierClass);
+      if(this.styles.size() >= MAXIMUM_CACHED_STYLES) {
+        this.styles.clear();
+      }
+      this.styles.put(style, modifier);
+    }
+    return modifier;
+  }
+
+  /**
+   * Finds a public method that accepts a single parameter, preferring the given names.
+   *
+   * <p>Method names are obfuscated on some versions, so a unique method with the
+   * right signature is accepted when none of the names are found.</p>
+   */
+  private static @Nullable MethodHandle findSetter(final @NotNull Class<?> holderClass, final @NotNull Class<?> returnClass, final @NotNull Class<?> parameterClass, final @NotNull String@NotNull... methodNames) {
+    Method named = null;
+    Method unique = null;
+    int candidates = 0;
+    for(final Method method : holderClass.getMethods()) {
+      if(Modifier.isStatic(method.getModifiers()) || method.isBridge()) continue;
+      if(method.getParameterCount() != 1 || method.getParameterTypes()[0] != parameterClass) continue;
+      if(method.getReturnType() != void.class && !returnClass.isAssignableFrom(method.getReturnType())) continue;
+      for(final String methodName : methodNames) {
+        if(methodName.equals(method.getName())) {
+          named = method;
+        }
+      }
+      unique = method;
+      candidates++;
+    }
+
+    final Method method = named != null ? named : candidates == 1 ? unique : null;
+    if(method == null) return null;
+    try {
+      return lookup().unreflect(method);
+    } catch(final IllegalAccessException error) {
+      return null;
+    }
+  }
+}
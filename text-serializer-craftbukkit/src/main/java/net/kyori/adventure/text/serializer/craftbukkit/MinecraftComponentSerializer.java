@@ -33,6 +33,7 @@ import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.ComponentSerializer;
@@ -42,6 +43,7 @@ import org.jetbrains.annotations.Nullable;
 
 import static net.kyori.adventure.text.serializer.craftbukkit.BukkitComponentSerializer.gson;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findClass;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findFunction;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findMcClassName;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findNmsClass;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findNmsClassName;
@@ -56,6 +58,10 @@ import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflectio
  *
  * <p>If not {@link #isSupported()}, an {@link UnsupportedOperationException} will be thrown on any serialize or deserialize operations.</p>
  *
+ * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.directComponents=true}, to build text and translatable components
+ * directly instead of through json. Other components, and servers where this cannot be verified, still use json.
+ * Styles are always converted through json, and are only cached on 1.16 and later.</p>
+ *
  * @see #get()
  * @since 4.0.0
  */
@@ -89,11 +95,12 @@ public final class MinecraftComponentSerializer implements ComponentSerializer<C
     findMcClassName("network.chat.IChatBaseComponent"),
     findMcClassName("network.chat.Component")
   );
+  private static final String DIRECT_PROPERTY = "net.kyo".concat("ri.adventure.directComponents"); // Concat is used to trick package relocations
   private static final AtomicReference<RuntimeException> INITIALIZATION_ERROR = new AtomicReference<>(new UnsupportedOperationException());
 
   private static final Object MC_TEXT_GSON;
-  private static final MethodHandle TEXT_SERIALIZER_DESERIALIZE;
-  private static final MethodHandle TEXT_SERIALIZER_SERIALIZE;
+  private static final Function<Object, Object> TEXT_SERIALIZER_DESERIALIZE;
+  private static final Function<Object, Object> TEXT_SERIALIZER_SERIALIZE;
 
   static {
     Object gson = null;
@@ -155,11 +162,14 @@ public final class MinecraftComponentSerializer implements ComponentSerializer<C
     }
 
     MC_TEXT_GSON = gson;
-    TEXT_SERIALIZER_DESERIALIZE = textSerializerDeserialize;
-    TEXT_SERIALIZER_SERIALIZE = textSerializerSerialize;
+    TEXT_SERIALIZER_DESERIALIZE = findFunction(textSerializerDeserialize);
+    TEXT_SERIALIZER_SERIALIZE = findFunction(textSerializerSerialize);
   }
 
   private static final boolean SUPPORTED = MC_TEXT_GSON != null || (TEXT_SERIALIZER_DESERIALIZE != null && TEXT_SERIALIZER_SERIALIZE != null);
+  private static final @Nullable MinecraftComponentBuilder DIRECT_BUILDER = Boolean.parseBoolean(System.getProperty(DIRECT_PROPERTY, "false"))
+    ? MinecraftComponentBuilder.create(CLASS_CHAT_COMPONENT, (Gson) MC_TEXT_GSON, MinecraftComponentSerializer::serializeJson)
+    : null;
 
   @Override
   public @NotNull Component deserialize(final @NotNull Object input) {
@@ -170,7 +180,7 @@ public final class MinecraftComponentSerializer implements ComponentSerializer<C
         final JsonElement element = ((Gson) MC_TEXT_GSON).toJsonTree(input);
         return gson().serializer().fromJson(element, Component.class);
       }
-      return GsonComponentSerializer.gson().deserialize((String) TEXT_SERIALIZER_SERIALIZE.invoke(input));
+      return GsonComponentSerializer.gson().deserialize((String) TEXT_SERIALIZER_SERIALIZE.apply(input));
     } catch(final Throwable error) {
       throw new UnsupportedOperationException(error);
     }
@@ -181,18 +191,26 @@ public final class MinecraftComponentSerializer implements ComponentSerializer<C
     if(!SUPPORTED) throw INITIALIZATION_ERROR.get();
 
     if(MC_TEXT_GSON != null) {
-      final JsonElement json = gson().serializer().toJsonTree(component);
       try {
-        return ((Gson) MC_TEXT_GSON).fromJson(json, CLASS_CHAT_COMPONENT);
+        if(DIRECT_BUILDER != null) {
+          final Object result = DIRECT_BUILDER.build(component);
+          if(result != null) return result;
+        }
+        return serializeJson(component);
       } catch(final Throwable error) {
         throw new UnsupportedOperationException(error);
       }
     } else {
       try {
-        return TEXT_SERIALIZER_DESERIALIZE.invoke(gson().serialize(component));
+        return TEXT_SERIALIZER_DESERIALIZE.apply(gson().serialize(component));
       } catch(final Throwable error) {
         throw new UnsupportedOperationException(error);
       }
     }
   }
+
+  private static @NotNull Object serializeJson(final @NotNull Component component) {
+    final JsonElement json = gson().serializer().toJsonTree(component);
+    return ((Gson) MC_TEXT_GSON).fromJson(json, CLASS_CHAT_COMPONENT);
+  }
 }
@@ -23,11 +23,15 @@
  */
 package net.kyori.adventure.text.serializer.craftbukkit;
 
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import com.google.common.annotations.Beta;
 import org.bukkit.Bukkit;
@@ -527,6 +531,115 @@ public final class MinecraftReflection {
     return requireNonNull(findMcClass(className), "Could not find net.minecraft class from candidates" + Arrays.toString(className));
   }
 
+  /**
+   * Gets a function that invokes a method handle with one parameter.
+   *
+   * <p>When the handle is a direct method or constructor handle, the function is generated by
+   * {@link LambdaMetafactory} and can be inlined like a direct call. Otherwise, the handle is wrapped.</p>
+   *
+   * @param handle a method handle
+   * @return a function or {@code null} if the handle is {@code null} or has a different arity
+   */
+  @SuppressWarnings("unchecked")
+  public static @Nullable Function<Object, Object> findFunction(final @Nullable MethodHandle handle) {
+    if(handle == null || handle.type().parameterCount() != 1 || handle.type().returnType() == void.class) return null;
+
+    final Function<Object, Object> function = metafactory(Function.class, "apply", MethodType.methodType(Object.class, Object.class), handle);
+    if(function != null) return function;
+
+    final MethodHandle erased = handle.asType(MethodType.methodType(Object.class, Object.class));
+    return argument -> {
+      try {
+        return erased.invokeExact(argument);
+      } catch(final Throwable error) {
+        throw MinecraftReflection.<RuntimeException>rethrow(error);
+      }
+    };
+  }
+
+  /**
+   * Gets a function that invokes a method handle with two parameters.
+   *
+   * <p>When the handle is a direct method or constructor handle, the function is generated by
+   * {@link LambdaMetafactory} and can be inlined like a direct call. Otherwise, the handle is wrapped.</p>
+   *
+   * @param handle a method handle
+   * @return a function or {@code null} if the handle is {@code null} or has a different arity
+   */
+  @SuppressWarnings("unchecked")
+  public static @Nullable BiFunction<Object, Object, Object> findBiFunction(final @Nullable MethodHandle handle) {
+    if(handle == null || handle.type().parameterCount() != 2 || handle.type().returnType() == void.class) return null;
+
+    final BiFunction<Object, Object, Object> function = metafactory(BiFunction.class, "apply", MethodType.methodType(Object.class, Object.class, Object.class), handle);
+    if(function != null) return function;
+
+    final MethodHandle erased = handle.asType(MethodType.methodType(Object.class, Object.class, Object.class));
+    return (first, second) -> {
+      try {
+        return erased.invokeExact(first, second);
+      } catch(final Throwable error) {
+        throw MinecraftReflection.<RuntimeException>rethrow(error);
+      }
+    };
+  }
+
+  /**
+   * Gets a consumer that invokes a method handle with two parameters, discarding any result.
+   *
+   * <p>When the handle is a direct method handle, the consumer is generated by
+   * {@link LambdaMetafactory} and can be inlined like a direct call. Otherwise, the handle is wrapped.</p>
+   *
+   * @param handle a method handle
+   * @return a consumer or {@code null} if the handle is {@code null} or has a different arity
+   */
+  @SuppressWarnings("unchecked")
+  public static @Nullable BiConsumer<Object, Object> findBiConsumer(final @Nullable MethodHandle handle) {
+    if(handle == null || handle.type().parameterCount() != 2) return null;
+
+    final BiConsumer<Object, Object> consumer = metafactory(BiConsumer.class, "accept", MethodType.methodType(void.class, Object.class, Object.class), handle);
+    if(consumer != null) return consumer;
+
+    final MethodHandle erased = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+    return (first, second) -> {
+      try {
+        erased.invokeExact(first, second);
+      } catch(final Throwable error) {
+        throw MinecraftReflection.<RuntimeException>rethrow(error);
+      }
+    };
+  }
+
+  /**
+   * Spins an implementation of a functional interface that calls a method handle.
+   *
+   * @param functionClass a functional interface
+   * @param methodName the name of the functional method
+   * @param erasedType the erased type of the functional method
+   * @param handle a direct method handle
+   * @param <T> a functional interface type
+   * @return an implementation or {@code null} if the handle is not supported
+   */
+  private static <T> @Nullable T metafactory(final @NotNull Class<T> functionClass, final @NotNull String methodName, final @NotNull MethodType erasedType, final @NotNull MethodHandle handle) {
+    MethodType instantiatedType = handle.type().wrap();
+    if(erasedType.returnType() == void.class) {
+      instantiatedType = instantiatedType.changeReturnType(void.class);
+    }
+
+    try {
+      return functionClass.cast(LambdaMetafactory.metafactory(LOOKUP, methodName, MethodType.methodType(functionClass), erasedType, handle, instantiatedType)
+        .getTarget()
+        .invoke());
+    } catch(final Throwable error) {
+      // The handle is not direct (field getters, adapted handles) or not accessible from here
+      return null;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E extends Throwable> @NotNull RuntimeException rethrow(final @NotNull Throwable error) throws E {
+    throw (E) error;
+  }
+
   /**
    * Gets the singleton method handle lookup.
    *